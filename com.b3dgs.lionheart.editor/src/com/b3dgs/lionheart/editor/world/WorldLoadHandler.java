@@ -28,8 +28,8 @@ import com.b3dgs.lionengine.editor.utility.dialog.UtilDialog;
 import com.b3dgs.lionengine.editor.world.WorldModel;
 import com.b3dgs.lionengine.editor.world.view.WorldPart;
 import com.b3dgs.lionengine.game.feature.HandlerPersister;
-import com.b3dgs.lionengine.game.feature.tile.map.persister.MapTilePersister;
 import com.b3dgs.lionengine.io.FileReading;
+import com.b3dgs.lionheart.MapTilePersisterOptimized;
 import com.b3dgs.lionheart.editor.Util;
 
 /**
@@ -48,12 +48,12 @@ public final class WorldLoadHandler
      */
     private static void load(Shell shell, Media media)
     {
-        final MapTilePersister mapPersister = WorldModel.INSTANCE.getMap().getFeature(MapTilePersister.class);
+        final MapTilePersisterOptimized mapPersister = WorldModel.INSTANCE.getMap()
+                                                                          .getFeature(MapTilePersisterOptimized.class);
         final HandlerPersister handlerPersister = WorldModel.INSTANCE.getHandlerPersister();
 
-        try (final FileReading reading = new FileReading(media))
+        try (final FileReading reading = mapPersister.load(media))
         {
-            mapPersister.load(reading);
             handlerPersister.load(reading);
         }
         catch (final IOException exception)
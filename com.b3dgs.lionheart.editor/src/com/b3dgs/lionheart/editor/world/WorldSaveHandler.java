@@ -28,8 +28,7 @@ import com.b3dgs.lionengine.editor.utility.dialog.UtilDialog;
 import com.b3dgs.lionengine.editor.world.WorldModel;
 import com.b3dgs.lionengine.editor.world.view.WorldPart;
 import com.b3dgs.lionengine.game.feature.HandlerPersister;
-import com.b3dgs.lionengine.game.feature.tile.map.persister.MapTilePersister;
-import com.b3dgs.lionengine.io.FileWriting;
+import com.b3dgs.lionheart.MapTilePersisterOptimized;
 import com.b3dgs.lionheart.editor.Util;
 
 /**
@@ -48,13 +47,13 @@ public final class WorldSaveHandler
      */
     private static void save(Shell shell, Media media)
     {
-        final MapTilePersister mapPersister = WorldModel.INSTANCE.getMap().getFeature(MapTilePersister.class);
+        final MapTilePersisterOptimized mapPersister = WorldModel.INSTANCE.getMap()
+                                                                          .getFeature(MapTilePersisterOptimized.class);
         final HandlerPersister handlerPersister = WorldModel.INSTANCE.getHandlerPersister();
 
-        try (final FileWriting writing = new FileWriting(media))
+        try
         {
-            mapPersister.save(writing);
-            handlerPersister.save(writing);
+            mapPersister.save(media, handlerPersister);
         }
         catch (final IOException exception)
         {
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart;
+
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.Resolution;
+import com.b3dgs.lionengine.awt.graphic.EngineAwt;
+import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+
+/**
+ * Benchmarks shared setup.
+ */
+public final class Benchmarks
+{
+    /** Engine started flag. */
+    private static boolean started;
+
+    /**
+     * Start engine once, with headless graphic factory.
+     */
+    public static synchronized void start()
+    {
+        if (!started)
+        {
+            System.setProperty("java.awt.headless", Boolean.TRUE.toString());
+            EngineAwt.start(Constant.PROGRAM_NAME, Constant.PROGRAM_VERSION, Benchmarks.class);
+            Sfx.setEnabled(false);
+            started = true;
+        }
+    }
+
+    /**
+     * Get resolution source at native resolution.
+     * 
+     * @return The resolution source.
+     */
+    public static SourceResolutionProvider getSource()
+    {
+        final Resolution resolution = Constant.NATIVE_RESOLUTION;
+        return new SourceResolutionProvider()
+        {
+            @Override
+            public int getWidth()
+            {
+                return resolution.getWidth();
+            }
+
+            @Override
+            public int getHeight()
+            {
+                return resolution.getHeight();
+            }
+
+            @Override
+            public int getRate()
+            {
+                return resolution.getRate();
+            }
+        };
+    }
+
+    /**
+     * Private constructor.
+     */
+    private Benchmarks()
+    {
+        throw new LionEngineException(LionEngineException.ERROR_PRIVATE_CONSTRUCTOR);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.b3dgs.lionengine.game.feature.Factory;
+import com.b3dgs.lionengine.game.feature.Handler;
+import com.b3dgs.lionengine.game.feature.HandlerPersister;
+import com.b3dgs.lionengine.game.feature.Services;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTileGame;
+import com.b3dgs.lionengine.io.FileReading;
+
+/**
+ * Benchmark level save and load, with level 1-1 imported in memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MapTilePersisterOptimizedBenchmark
+{
+    private MapTilePersisterOptimized persister;
+    private HandlerPersister handler;
+    private byte[] level;
+
+    /**
+     * Import level and save it in memory.
+     * 
+     * @throws IOException If error.
+     */
+    @Setup
+    public void setup() throws IOException
+    {
+        Benchmarks.start();
+
+        final Services services = new Services();
+        services.add(new Factory(services));
+        services.add(new Handler(services));
+
+        final MapTile map = services.create(MapTileGame.class);
+        persister = map.addFeatureAndGet(new MapTilePersisterOptimized(services));
+        handler = new HandlerPersister(services);
+        map.create(Level.SWAMP_1_1.getRip());
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        persister.save(output, handler);
+        level = output.toByteArray();
+    }
+
+    /**
+     * Save level.
+     * 
+     * @return The saved size.
+     * @throws IOException If error.
+     */
+    @Benchmark
+    public int save() throws IOException
+    {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(level.length);
+        persister.save(output, handler);
+        return output.size();
+    }
+
+    /**
+     * Load level with all chunks.
+     * 
+     * @return The loaded chunks.
+     * @throws IOException If error.
+     */
+    @Benchmark
+    public int load() throws IOException
+    {
+        try (FileReading reading = persister.load(ByteBuffer.wrap(level), true))
+        {
+            return persister.getChunks();
+        }
+    }
+}
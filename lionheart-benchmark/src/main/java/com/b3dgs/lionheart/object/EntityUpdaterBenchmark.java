@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart.object;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.game.feature.Featurable;
+import com.b3dgs.lionengine.game.feature.Identifiable;
+import com.b3dgs.lionheart.Benchmarks;
+import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.Level;
+import com.b3dgs.lionheart.Simulation;
+
+/**
+ * Benchmark world update with a number of active entities around player.
+ * <p>
+ * Entities are spawned again before each iteration, so they are still in activity area whatever they did during
+ * previous iterations.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class EntityUpdaterBenchmark
+{
+    private static final Media MONSTER = Medias.create(Constant.FOLDER_MONSTERS, "swamp", "Crawling.xml");
+    private static final int SPREAD = 256;
+
+    /** Number of spawned entities. */
+    @Param({"10", "100", "1000"}) private int count;
+
+    /** Spawned entities. */
+    private final List<Featurable> entities = new ArrayList<>();
+
+    private Simulation simulation;
+
+    /**
+     * Load level.
+     */
+    @Setup
+    public void setup()
+    {
+        Benchmarks.start();
+
+        simulation = new Simulation(Level.SWAMP_DEMO);
+    }
+
+    /**
+     * Destroy previous entities and spawn new ones in activity area.
+     */
+    @Setup(org.openjdk.jmh.annotations.Level.Iteration)
+    public void spawn()
+    {
+        for (final Featurable entity : entities)
+        {
+            entity.getFeature(Identifiable.class).destroy();
+        }
+        entities.clear();
+
+        for (int i = 0; i < count; i++)
+        {
+            entities.add(simulation.spawn(MONSTER, 960 - SPREAD / 2 + i % SPREAD, 112));
+        }
+        simulation.run(1L);
+    }
+
+    /**
+     * Update one frame.
+     * 
+     * @return The elapsed time.
+     */
+    @Benchmark
+    public long update()
+    {
+        return simulation.run(1L);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart.object.state;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.game.feature.state.StateHandler;
+import com.b3dgs.lionheart.Benchmarks;
+import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.Level;
+import com.b3dgs.lionheart.Simulation;
+
+/**
+ * Benchmark player state transitions between walk and jump.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StateHandlerBenchmark
+{
+    private StateHandler handler;
+
+    /**
+     * Spawn player.
+     */
+    @Setup
+    public void setup()
+    {
+        Benchmarks.start();
+
+        final Simulation simulation = new Simulation(Level.SWAMP_DEMO);
+        handler = simulation.spawn(Medias.create(Constant.FOLDER_PLAYERS, "default", "Valdyn.xml"), 960, 112)
+                            .getFeature(StateHandler.class);
+        simulation.run(1L);
+    }
+
+    /**
+     * Transition to walk then jump.
+     */
+    @Benchmark
+    public void walkJump()
+    {
+        handler.changeState(StateWalk.class);
+        handler.postUpdate();
+        handler.changeState(StateJump.class);
+        handler.postUpdate();
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.b3dgs.lionengine.UtilMath;
+import com.b3dgs.lionengine.game.feature.ComponentUpdater;
+import com.b3dgs.lionengine.game.feature.Featurable;
+import com.b3dgs.lionengine.game.feature.Handlables;
+import com.b3dgs.lionengine.game.feature.HandlerListener;
+import com.b3dgs.lionengine.game.feature.Transformable;
+import com.b3dgs.lionengine.game.feature.TransformableListener;
+import com.b3dgs.lionengine.game.feature.collidable.Collidable;
+import com.b3dgs.lionengine.game.feature.collidable.Collision;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
+
+/**
+ * Collision component using a uniform grid keyed on tile coordinates as broad-phase.
+ * <p>
+ * Each collidable is stored in the cell of its location, updated when its transformable moves. A collidable is only
+ * checked against collidables of the surrounding cells with an accepted group, so cost depends on local density. Cell
+ * size must be greater than the largest collision reach between two entities.
+ * </p>
+ * <p>
+ * Collisions are notified once all checks are done.
+ * </p>
+ */
+final class ComponentCollisionGrid implements ComponentUpdater, HandlerListener, TransformableListener
+{
+    /** Map reference. */
+    private final MapTile map;
+    /** Cell size in tile. */
+    private final int cellTiles;
+    /** Cell of each collidable. */
+    private final Map<Transformable, Entry> entries = new HashMap<>();
+    /** Collidables of each cell. */
+    private final List<List<Entry>> cells = new ArrayList<>();
+    /** Collisions to notify. */
+    private final List<Collided> collided = new ArrayList<>();
+    /** Collisions to notify count. */
+    private int collidedCount;
+    /** Grid width in cell. */
+    private int width;
+    /** Grid height in cell. */
+    private int height;
+    /** Cell width in pixel. */
+    private int cellWidth;
+    /** Cell height in pixel. */
+    private int cellHeight;
+
+    /**
+     * Create component.
+     * 
+     * @param map The map reference.
+     * @param cellTiles The cell size in tile.
+     */
+    ComponentCollisionGrid(MapTile map, int cellTiles)
+    {
+        super();
+
+        this.map = map;
+        this.cellTiles = cellTiles;
+    }
+
+    /**
+     * Create grid from map size if changed.
+     */
+    private void checkGrid()
+    {
+        final int cellWidthNew = map.getTileWidth() * cellTiles;
+        final int cellHeightNew = map.getTileHeight() * cellTiles;
+        final int widthNew = Math.max(1, (int) Math.ceil(map.getInTileWidth() / (double) cellTiles));
+        final int heightNew = Math.max(1, (int) Math.ceil(map.getInTileHeight() / (double) cellTiles));
+
+        if (widthNew != width || heightNew != height || cellWidthNew != cellWidth || cellHeightNew != cellHeight)
+        {
+            width = widthNew;
+            height = heightNew;
+            cellWidth = Math.max(1, cellWidthNew);
+            cellHeight = Math.max(1, cellHeightNew);
+
+            cells.clear();
+            for (int i = 0; i < width * height; i++)
+            {
+                cells.add(new ArrayList<>());
+            }
+            for (final Entry entry : entries.values())
+            {
+                entry.cell = getCell(entry.transformable);
+                cells.get(entry.cell).add(entry);
+            }
+        }
+    }
+
+    /**
+     * Get cell index of transformable location, clamped to grid.
+     * 
+     * @param transformable The transformable reference.
+     * @return The cell index.
+     */
+    private int getCell(Transformable transformable)
+    {
+        final int x = UtilMath.clamp((int) Math.floor(transformable.getX() / cellWidth), 0, width - 1);
+        final int y = UtilMath.clamp((int) Math.floor(transformable.getY() / cellHeight), 0, height - 1);
+        return x + y * width;
+    }
+
+    /**
+     * Check collidable against collidables of surrounding cells.
+     * 
+     * @param entry The collidable entry.
+     */
+    private void check(Entry entry)
+    {
+        final Collidable collidable = entry.collidable;
+        if (!collidable.isEnabled())
+        {
+            return;
+        }
+        final int cx = entry.cell % width;
+        final int cy = entry.cell / width;
+
+        for (int y = Math.max(0, cy - 1); y <= Math.min(height - 1, cy + 1); y++)
+        {
+            for (int x = Math.max(0, cx - 1); x <= Math.min(width - 1, cx + 1); x++)
+            {
+                final List<Entry> others = cells.get(x + y * width);
+                final int n = others.size();
+                for (int i = 0; i < n; i++)
+                {
+                    final Collidable other = others.get(i).collidable;
+                    if (other != collidable
+                        && other.isEnabled()
+                        && collidable.getAccepted().contains(other.getGroup()))
+                    {
+                        check(collidable, other);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Check collision between two collidables, and store collisions to notify.
+     * 
+     * @param collidable The collidable reference.
+     * @param other The other collidable.
+     */
+    private void check(Collidable collidable, Collidable other)
+    {
+        final List<Collision[]> collisions = collidable.collide(other);
+        final int n = collisions.size();
+        for (int i = 0; i < n; i++)
+        {
+            final Collision[] collision = collisions.get(i);
+            if (collidedCount == collided.size())
+            {
+                collided.add(new Collided());
+            }
+            collided.get(collidedCount).set(collidable, other, collision[0], collision[1]);
+            collidedCount++;
+        }
+    }
+
+    @Override
+    public void update(double extrp, Handlables featurables)
+    {
+        checkGrid();
+
+        final int count = cells.size();
+        for (int c = 0; c < count; c++)
+        {
+            final List<Entry> cell = cells.get(c);
+            final int n = cell.size();
+            for (int i = 0; i < n; i++)
+            {
+                check(cell.get(i));
+            }
+        }
+
+        for (int i = 0; i < collidedCount; i++)
+        {
+            collided.get(i).notifyCollided();
+        }
+        collidedCount = 0;
+    }
+
+    @Override
+    public void notifyHandlableAdded(Featurable featurable)
+    {
+        if (featurable.hasFeature(Collidable.class))
+        {
+            checkGrid();
+
+            final Transformable transformable = featurable.getFeature(Transformable.class);
+            final Entry entry = new Entry(transformable, featurable.getFeature(Collidable.class));
+            entry.cell = getCell(transformable);
+            cells.get(entry.cell).add(entry);
+            entries.put(transformable, entry);
+            transformable.addListener(this);
+        }
+    }
+
+    @Override
+    public void notifyHandlableRemoved(Featurable featurable)
+    {
+        if (featurable.hasFeature(Collidable.class))
+        {
+            final Transformable transformable = featurable.getFeature(Transformable.class);
+            transformable.removeListener(this);
+
+            final Entry entry = entries.remove(transformable);
+            if (entry != null)
+            {
+                cells.get(entry.cell).remove(entry);
+            }
+        }
+    }
+
+    @Override
+    public void notifyTransformed(Transformable transformable)
+    {
+        final Entry entry = entries.get(transformable);
+        if (entry != null)
+        {
+            final int cell = getCell(transformable);
+            if (cell != entry.cell)
+            {
+                cells.get(entry.cell).remove(entry);
+                cells.get(cell).add(entry);
+                entry.cell = cell;
+            }
+        }
+    }
+
+    /**
+     * Collidable stored in grid.
+     */
+    private static final class Entry
+    {
+        /** Transformable reference. */
+        private final Transformable transformable;
+        /** Collidable reference. */
+        private final Collidable collidable;
+        /** Current cell index. */
+        private int cell;
+
+        /**
+         * Create entry.
+         * 
+         * @param transformable The transformable reference.
+         * @param collidable The collidable reference.
+         */
+        Entry(Transformable transformable, Collidable collidable)
+        {
+            super();
+
+            this.transformable = transformable;
+            this.collidable = collidable;
+        }
+    }
+
+    /**
+     * Collision waiting to be notified, reused between updates.
+     */
+    private static final class Collided
+    {
+        /** Collidable reference. */
+        private Collidable collidable;
+        /** Other collidable. */
+        private Collidable other;
+        /** Collision with. */
+        private Collision with;
+        /** Collision by. */
+        private Collision by;
+
+        /**
+         * Create collided.
+         */
+        Collided()
+        {
+            super();
+        }
+
+        /**
+         * Set collision data.
+         * 
+         * @param collidable The collidable reference.
+         * @param other The other collidable.
+         * @param with The collision with.
+         * @param by The collision by.
+         */
+        void set(Collidable collidable, Collidable other, Collision with, Collision by)
+        {
+            this.collidable = collidable;
+            this.other = other;
+            this.with = with;
+            this.by = by;
+        }
+
+        /**
+         * Notify collision and release references.
+         */
+        void notifyCollided()
+        {
+            collidable.notifyCollided(other, with, by);
+            set(null, null, null, null);
+        }
+    }
+}
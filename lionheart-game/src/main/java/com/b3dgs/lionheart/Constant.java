@@ -39,6 +39,14 @@ public final class Constant
 
     /** Debug flag (shows collisions). */
     public static final boolean DEBUG = false;
+    /** Map streaming flag (keep only map chunks around camera, requires version 2 level). */
+    public static final boolean MAP_STREAMING = false;
+    /** Number of screens on each side of the camera where map chunks are kept when streaming. */
+    public static final int MAP_STREAMING_SCREENS = 2;
+    /** Number of screens on each side of the camera where entities are updated (not more than streaming). */
+    public static final int ACTIVITY_SCREENS = 1;
+    /** Parallel update flag (split entities update across threads, see EntityPhysics). */
+    public static final boolean PARALLEL_UPDATE = false;
 
     /** Sprites folder. */
     public static final String FOLDER_SPRITES = "sprite";
@@ -64,6 +72,10 @@ public final class Constant
     public static final String FOLDER_SOUNDS = "sfx";
     /** Musics folder. */
     public static final String FOLDER_MUSICS = "music";
+    /** User data folder, in user home. */
+    public static final String FOLDER_USER = ".lionheart";
+    /** Rasters cache folder, in user data folder. */
+    public static final String FOLDER_RASTERS = "raster_cache";
 
     /** Collision group player. */
     public static final Integer COLL_GROUP_PLAYER = Integer.valueOf(1);
@@ -71,6 +83,8 @@ public final class Constant
     public static final Integer COLL_GROUP_ENEMIES = Integer.valueOf(2);
     /** Collision group background. */
     public static final Integer COLL_GROUP_BACKGROUND = Integer.valueOf(3);
+    /** Collision grid cell size in tile (must cover the largest collision reach). */
+    public static final int COLL_GRID_CELL_TILES = 8;
 
     /** Animation name take. */
     public static final String ANIM_NAME_TAKE = "take";
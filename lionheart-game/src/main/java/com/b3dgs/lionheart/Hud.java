@@ -17,20 +17,30 @@
  */
 package com.b3dgs.lionheart;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.Updatable;
 import com.b3dgs.lionengine.game.feature.Featurable;
+import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Graphics;
 import com.b3dgs.lionengine.graphic.ImageBuffer;
 import com.b3dgs.lionengine.graphic.Renderable;
 import com.b3dgs.lionengine.graphic.drawable.Drawable;
 import com.b3dgs.lionengine.graphic.drawable.Image;
+import com.b3dgs.lionengine.graphic.drawable.Sprite;
 import com.b3dgs.lionengine.graphic.drawable.SpriteTiled;
 import com.b3dgs.lionheart.object.feature.Stats;
+import com.b3dgs.lionheart.object.feature.Stats.StatsListener;
 
 /**
  * Represents the HUD with player stats display.
+ * <p>
+ * Elements are composited on a surface only when notified of stats change or on {@link #invalidate()}, and this
+ * surface is rendered each frame. The surface is allocated once, and cleared before each composition.
+ * </p>
  */
 public final class Hud implements Updatable, Renderable
 {
@@ -44,13 +54,23 @@ public final class Hud implements Updatable, Renderable
     private static final int LIFE_X = 244;
     private static final int LIFE_Y = 0;
 
+    private static final int SURFACE_WIDTH = Constant.NATIVE_RESOLUTION.getWidth();
+    private static final int SURFACE_HEIGHT = 18;
+    private static final int[] CLEAR = new int[SURFACE_WIDTH * SURFACE_HEIGHT];
+
     private final SpriteTiled[] health = new SpriteTiled[HEALTH_MAX];
     private final SpriteTiled talisment;
     private final SpriteTiled life;
     private final SpriteDigit numberTalisment;
     private final SpriteDigit numberLife;
-
+    private final List<Renderable> widgets = new ArrayList<>();
+    private final StatsListener listener = (type, old, current) -> invalidate();
+    private final ImageBuffer surface = Graphics.createImageBuffer(SURFACE_WIDTH,
+                                                                   SURFACE_HEIGHT,
+                                                                   ColorRgba.TRANSPARENT);
+    private final Sprite composited;
     private Stats stats;
+    private boolean dirty = true;
 
     /**
      * Create HUD.
@@ -90,6 +110,9 @@ public final class Hud implements Updatable, Renderable
 
         numberLife = new SpriteDigit(number, 8, 16, 2);
         numberLife.setLocation(LIFE_X + life.getTileWidth() + 1, LIFE_Y + 1);
+
+        surface.prepare();
+        composited = Drawable.loadSprite(surface);
     }
 
     /**
@@ -99,11 +122,38 @@ public final class Hud implements Updatable, Renderable
      */
     public void setFeaturable(Featurable featurable)
     {
+        if (stats != null)
+        {
+            stats.removeListener(listener);
+        }
         stats = featurable.getFeature(Stats.class);
+        stats.addListener(listener);
+        dirty = true;
     }
 
-    @Override
-    public void update(double extrp)
+    /**
+     * Add a widget, composited with HUD elements. Location is relative to HUD surface.
+     * 
+     * @param widget The widget to add.
+     */
+    public void addWidget(Renderable widget)
+    {
+        widgets.add(widget);
+        dirty = true;
+    }
+
+    /**
+     * Request composition on next update (to call when a widget changed).
+     */
+    public void invalidate()
+    {
+        dirty = true;
+    }
+
+    /**
+     * Update elements from stats.
+     */
+    private void updateStats()
     {
         for (int i = 0; i < HEALTH_MAX; i++)
         {
@@ -125,8 +175,23 @@ public final class Hud implements Updatable, Renderable
         numberLife.setValue(stats.getLife());
     }
 
-    @Override
-    public void render(Graphic g)
+    /**
+     * Clear surface and render elements on it.
+     */
+    private void compose()
+    {
+        surface.setRgb(0, 0, SURFACE_WIDTH, SURFACE_HEIGHT, CLEAR, 0, SURFACE_WIDTH);
+        final Graphic g = surface.createGraphic();
+        renderElements(g);
+        g.dispose();
+    }
+
+    /**
+     * Render HUD elements.
+     * 
+     * @param g The graphic output.
+     */
+    private void renderElements(Graphic g)
     {
         for (final SpriteTiled element : health)
         {
@@ -138,5 +203,28 @@ public final class Hud implements Updatable, Renderable
 
         life.render(g);
         numberLife.render(g);
+
+        final int n = widgets.size();
+        for (int i = 0; i < n; i++)
+        {
+            widgets.get(i).render(g);
+        }
+    }
+
+    @Override
+    public void update(double extrp)
+    {
+        if (dirty)
+        {
+            dirty = false;
+            updateStats();
+            compose();
+        }
+    }
+
+    @Override
+    public void render(Graphic g)
+    {
+        composited.render(g);
     }
 }
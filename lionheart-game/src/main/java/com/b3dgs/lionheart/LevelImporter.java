@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.Verbose;
+import com.b3dgs.lionengine.game.feature.Factory;
+import com.b3dgs.lionengine.game.feature.Handler;
+import com.b3dgs.lionengine.game.feature.HandlerPersister;
+import com.b3dgs.lionengine.game.feature.Services;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTileGame;
+
+/**
+ * Convert level rips to level data files.
+ * <p>
+ * Each level is imported in its own context, so levels can be imported in parallel.
+ * </p>
+ */
+public final class LevelImporter
+{
+    /** Level rip extension. */
+    public static final String EXTENSION_RIP = ".png";
+    /** Import error. */
+    private static final String ERROR_IMPORT = "Error on importing level: ";
+
+    /**
+     * Get the rips of all known levels which are available.
+     * 
+     * @return The available level rips.
+     */
+    public static List<Media> getRips()
+    {
+        final List<Media> rips = new ArrayList<>();
+        for (final Level level : Level.values())
+        {
+            if (level.getRip().exists())
+            {
+                rips.add(level.getRip());
+            }
+        }
+        return rips;
+    }
+
+    /**
+     * Get the level data file associated to the rip.
+     * 
+     * @param rip The level rip.
+     * @return The level data file, in the same folder.
+     */
+    public static Media getLevel(Media rip)
+    {
+        final String path = rip.getPath();
+        return Medias.create(path.substring(0, path.length() - EXTENSION_RIP.length()) + Constant.EXTENSION_LEVEL);
+    }
+
+    /**
+     * Import the level rip and save it.
+     * 
+     * @param rip The level rip.
+     * @param level The level data file.
+     * @throws IOException If error on saving level.
+     * @throws LionEngineException If error on reading rip.
+     */
+    public static void importLevel(Media rip, Media level) throws IOException
+    {
+        final Services services = new Services();
+        services.add(new Factory(services));
+        services.add(new Handler(services));
+
+        final MapTile map = services.create(MapTileGame.class);
+        final MapTilePersisterOptimized mapPersister = map.addFeatureAndGet(new MapTilePersisterOptimized(services));
+        final HandlerPersister handlerPersister = new HandlerPersister(services);
+        map.create(rip);
+
+        mapPersister.save(level, handlerPersister);
+    }
+
+    /**
+     * Import all rips in parallel. Duplicated rips are imported once, errors are logged and do not stop others.
+     * 
+     * @param rips The level rips.
+     * @param parallelism The number of import threads.
+     * @return The number of imported levels.
+     */
+    public static int importLevels(Collection<Media> rips, int parallelism)
+    {
+        final Map<String, Media> unique = new LinkedHashMap<>();
+        for (final Media rip : rips)
+        {
+            unique.putIfAbsent(rip.getPath(), rip);
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try
+        {
+            return pool.invoke(new ImportTask(new ArrayList<>(unique.values()))).intValue();
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Private constructor.
+     */
+    private LevelImporter()
+    {
+        throw new LionEngineException(LionEngineException.ERROR_PRIVATE_CONSTRUCTOR);
+    }
+
+    /**
+     * Import rips by splitting them until a single one remains.
+     */
+    private static final class ImportTask extends RecursiveTask<Integer>
+    {
+        /** Serial UID. */
+        private static final long serialVersionUID = 1L;
+
+        /** Rips to import. */
+        private final List<Media> rips;
+
+        /**
+         * Create task.
+         * 
+         * @param rips The rips to import.
+         */
+        ImportTask(List<Media> rips)
+        {
+            super();
+
+            this.rips = rips;
+        }
+
+        @Override
+        protected Integer compute()
+        {
+            if (rips.size() > 1)
+            {
+                final int middle = rips.size() / 2;
+                final ImportTask left = new ImportTask(rips.subList(0, middle));
+                left.fork();
+                final int right = new ImportTask(rips.subList(middle, rips.size())).compute().intValue();
+                return Integer.valueOf(left.join().intValue() + right);
+            }
+            if (rips.isEmpty())
+            {
+                return Integer.valueOf(0);
+            }
+
+            final Media rip = rips.get(0);
+            try
+            {
+                importLevel(rip, getLevel(rip));
+                return Integer.valueOf(1);
+            }
+            catch (final IOException | LionEngineException exception)
+            {
+                Verbose.exception(exception, ERROR_IMPORT, rip.getPath());
+                return Integer.valueOf(0);
+            }
+        }
+    }
+}
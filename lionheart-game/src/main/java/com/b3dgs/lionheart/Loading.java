@@ -17,24 +17,28 @@
  */
 package com.b3dgs.lionheart;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import com.b3dgs.lionengine.Context;
-import com.b3dgs.lionengine.Medias;
-import com.b3dgs.lionengine.Origin;
+import com.b3dgs.lionengine.Verbose;
 import com.b3dgs.lionengine.graphic.Graphic;
-import com.b3dgs.lionengine.graphic.drawable.Drawable;
-import com.b3dgs.lionengine.graphic.drawable.Image;
 import com.b3dgs.lionengine.graphic.engine.Sequence;
 
 /**
- * Loading screen.
+ * Loading screen, importing level in background if missing.
  */
 final class Loading extends Sequence
 {
-    private static final String SPRITE_LOADING = "logo.png";
+    private static final String ERROR_SAVING_MAP = "Error on saving map !";
+    private static final String TASK_IMPORT = "import";
 
-    private final Image loading = Drawable.loadImage(Medias.create(Constant.FOLDER_SPRITES, SPRITE_LOADING));
+    private final LoadingLogo logo = new LoadingLogo();
+    private final LoadingTasks tasks = new LoadingTasks();
+    /** Level to load. */
+    private final Level level = Level.SWAMP_DEMO;
 
-    private boolean loaded;
+    private CompletableFuture<Void> importing;
 
     /**
      * Constructor.
@@ -51,32 +55,47 @@ final class Loading extends Sequence
     @Override
     public void load()
     {
-        loading.load();
-        loading.prepare();
-        loading.setOrigin(Origin.MIDDLE);
-        loading.setLocation(getWidth() / 2.0, getHeight() / 2.0);
+        logo.load(getWidth(), getHeight());
+
+        if (level.getFile().exists())
+        {
+            importing = CompletableFuture.completedFuture(null);
+        }
+        else
+        {
+            importing = tasks.run(TASK_IMPORT, () -> LevelImporter.importLevel(level.getRip(), level.getFile()));
+        }
     }
 
     @Override
     public void update(double extrp)
     {
-        if (loaded)
+        logo.setProgress(tasks.getProgress());
+        logo.update(extrp);
+
+        if (importing.isDone() && logo.isFull())
         {
-            end(Scene.class);
+            try
+            {
+                importing.join();
+            }
+            catch (final CompletionException exception)
+            {
+                Verbose.exception(exception.getCause(), ERROR_SAVING_MAP);
+            }
+            end(Scene.class, level);
         }
-        loaded = true;
     }
 
     @Override
     public void render(Graphic g)
     {
-        loading.render(g);
+        logo.render(g);
     }
 
     @Override
     public void onTerminated(boolean hasNextSequence)
     {
-        loading.dispose();
-        loaded = false;
+        logo.dispose();
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart;
+
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.Origin;
+import com.b3dgs.lionengine.Updatable;
+import com.b3dgs.lionengine.graphic.ColorRgba;
+import com.b3dgs.lionengine.graphic.Graphic;
+import com.b3dgs.lionengine.graphic.Renderable;
+import com.b3dgs.lionengine.graphic.drawable.Drawable;
+import com.b3dgs.lionengine.graphic.drawable.Image;
+
+/**
+ * Loading logo with progress bar.
+ */
+final class LoadingLogo implements Updatable, Renderable
+{
+    private static final String SPRITE_LOADING = "logo.png";
+    /** Progress bar height. */
+    private static final int BAR_HEIGHT = 2;
+    /** Progress bar margin below logo. */
+    private static final int BAR_MARGIN = 4;
+    /** Displayed progress speed toward real progress. */
+    private static final double BAR_SPEED = 0.2;
+    /** Displayed progress minimum speed. */
+    private static final double BAR_SPEED_MIN = 0.01;
+
+    private final Image logo = Drawable.loadImage(Medias.create(Constant.FOLDER_SPRITES, SPRITE_LOADING));
+    private double progress;
+    private double displayed;
+
+    /**
+     * Create logo.
+     */
+    LoadingLogo()
+    {
+        super();
+    }
+
+    /**
+     * Load logo and center it.
+     * 
+     * @param width The screen width.
+     * @param height The screen height.
+     */
+    public void load(int width, int height)
+    {
+        logo.load();
+        logo.prepare();
+        logo.setOrigin(Origin.MIDDLE);
+        logo.setLocation(width / 2.0, height / 2.0);
+    }
+
+    /**
+     * Set the loading progress.
+     * 
+     * @param progress The progress in <code>[0, 1]</code>.
+     */
+    public void setProgress(double progress)
+    {
+        this.progress = progress;
+    }
+
+    /**
+     * Check if displayed progress reached the end.
+     * 
+     * @return <code>true</code> if progress bar is full, <code>false</code> else.
+     */
+    public boolean isFull()
+    {
+        return Double.compare(displayed, 1.0) >= 0;
+    }
+
+    /**
+     * Dispose logo.
+     */
+    public void dispose()
+    {
+        logo.dispose();
+    }
+
+    @Override
+    public void update(double extrp)
+    {
+        final double speed = Math.max(BAR_SPEED * (progress - displayed), BAR_SPEED_MIN);
+        displayed = Math.min(progress, displayed + speed * extrp);
+    }
+
+    @Override
+    public void render(Graphic g)
+    {
+        logo.render(g);
+
+        final int x = (int) Math.round(logo.getX() - logo.getWidth() / 2.0);
+        final int y = (int) Math.round(logo.getY() + logo.getHeight() / 2.0) + BAR_MARGIN;
+        g.setColor(ColorRgba.GRAY_LIGHT);
+        g.drawRect(x, y, (int) Math.round(logo.getWidth() * displayed), BAR_HEIGHT, true);
+    }
+}
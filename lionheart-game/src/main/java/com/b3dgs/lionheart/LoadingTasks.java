@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.b3dgs.lionengine.Verbose;
+
+/**
+ * Run loading tasks on worker threads and track their progress.
+ * <p>
+ * Tasks with no dependency run in parallel, tasks depending on another one start once it is done. Objects loaded by
+ * tasks must not be accessed by update thread until all tasks are done.
+ * </p>
+ */
+final class LoadingTasks
+{
+    /** Task done message. */
+    private static final String TASK_DONE = "Loaded: ";
+
+    /** Number of tasks. */
+    private final AtomicInteger count = new AtomicInteger();
+    /** Number of done tasks. */
+    private final AtomicInteger done = new AtomicInteger();
+
+    /**
+     * Create tasks.
+     */
+    LoadingTasks()
+    {
+        super();
+    }
+
+    /**
+     * Run task.
+     * 
+     * @param name The task name.
+     * @param task The task to run.
+     * @return The task future.
+     */
+    public CompletableFuture<Void> run(String name, Task task)
+    {
+        count.incrementAndGet();
+        return CompletableFuture.runAsync(() -> execute(name, task));
+    }
+
+    /**
+     * Run task once another one is done.
+     * 
+     * @param after The task to wait.
+     * @param name The task name.
+     * @param task The task to run.
+     * @return The task future.
+     */
+    public CompletableFuture<Void> run(CompletableFuture<?> after, String name, Task task)
+    {
+        count.incrementAndGet();
+        return after.thenRunAsync(() -> execute(name, task));
+    }
+
+    /**
+     * Run task providing a result.
+     * 
+     * @param <T> The result type.
+     * @param name The task name.
+     * @param task The task to run.
+     * @return The task future.
+     */
+    public <T> CompletableFuture<T> supply(String name, TaskResult<T> task)
+    {
+        count.incrementAndGet();
+        return CompletableFuture.supplyAsync(() ->
+        {
+            try
+            {
+                return task.get();
+            }
+            catch (final IOException exception)
+            {
+                throw new CompletionException(exception);
+            }
+            finally
+            {
+                done(name);
+            }
+        });
+    }
+
+    /**
+     * Get the loading progress.
+     * 
+     * @return The done tasks percent in <code>[0, 1]</code>.
+     */
+    public double getProgress()
+    {
+        final int total = count.get();
+        if (total == 0)
+        {
+            return 1.0;
+        }
+        return done.get() / (double) total;
+    }
+
+    /**
+     * Execute task and report it.
+     * 
+     * @param name The task name.
+     * @param task The task to execute.
+     * @throws CompletionException If task failed.
+     */
+    private void execute(String name, Task task)
+    {
+        try
+        {
+            task.run();
+        }
+        catch (final IOException exception)
+        {
+            throw new CompletionException(exception);
+        }
+        finally
+        {
+            done(name);
+        }
+    }
+
+    /**
+     * Report task as done.
+     * 
+     * @param name The task name.
+     */
+    private void done(String name)
+    {
+        done.incrementAndGet();
+        Verbose.info(TASK_DONE, name);
+    }
+
+    /**
+     * Loading task.
+     */
+    @FunctionalInterface
+    interface Task
+    {
+        /**
+         * Run task.
+         * 
+         * @throws IOException If error on loading.
+         */
+        void run() throws IOException;
+    }
+
+    /**
+     * Loading task with result.
+     * 
+     * @param <T> The result type.
+     */
+    @FunctionalInterface
+    interface TaskResult<T>
+    {
+        /**
+         * Run task and get result.
+         * 
+         * @return The task result.
+         * @throws IOException If error on loading.
+         */
+        T get() throws IOException;
+    }
+}
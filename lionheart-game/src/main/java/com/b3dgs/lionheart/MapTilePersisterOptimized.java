@@ -17,10 +17,25 @@
  */
 package com.b3dgs.lionheart;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.UtilConversion;
 import com.b3dgs.lionengine.game.feature.FeatureInterface;
+import com.b3dgs.lionengine.game.feature.HandlerPersister;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.tile.Tile;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
@@ -30,10 +45,152 @@ import com.b3dgs.lionengine.io.FileWriting;
 
 /**
  * Handle the map persistence by providing saving and loading functions.
+ * <p>
+ * Map can also be loaded with {@link #load(Media)}, where level file is mapped in memory (or read in one time when not
+ * available on file system), and tiles are decoded block by block from the buffer.
+ * </p>
+ * <p>
+ * Level files saved with {@link #save(Media, HandlerPersister)} use the version 2 format:
+ * </p>
+ * <ul>
+ * <li>header: magic, version, tile size, map size in tile, sheets config</li>
+ * <li>chunk table: offset, compressed length and tiles number of each chunk of {@link #BLOC_SIZE} columns</li>
+ * <li>entity section location (offset and length)</li>
+ * <li>chunk payloads: deflated tiles data</li>
+ * <li>entity section: {@link HandlerPersister} data</li>
+ * </ul>
+ * <p>
+ * Version 1 files (tiles blocks directly followed by {@link HandlerPersister} data) are still supported.
+ * </p>
  */
 @FeatureInterface
 public class MapTilePersisterOptimized extends MapTilePersisterModel
 {
+    /** Current level format version. */
+    public static final int VERSION = 2;
+
+    /** Unsupported version error. */
+    private static final String ERROR_VERSION = "Unsupported level version: ";
+    /** No chunks error. */
+    private static final String ERROR_NO_CHUNKS = "No chunked level loaded !";
+    /** Invalid chunk error. */
+    private static final String ERROR_CHUNK = "Invalid chunk data: ";
+
+    /** Level format magic ("LRL" followed by version byte). */
+    private static final int MAGIC = 'L' << 24 | 'R' << 16 | 'L' << 8;
+    /** Magic mask (ignore version byte). */
+    private static final int MAGIC_MASK = 0xFFFFFF00;
+    /** Tile data size in bytes. */
+    private static final int TILE_SIZE = 6;
+    /** Chunk table entry size in bytes. */
+    private static final int CHUNK_ENTRY_SIZE = 12;
+    /** Copy buffer size. */
+    private static final int READ_BUFFER_SIZE = 65536;
+    /** Sheets number (sheet is stored as unsigned byte). */
+    private static final int SHEETS_MAX = 256;
+    /** Shared sheets key, avoid boxing on each tile. */
+    private static final Integer[] SHEETS = new Integer[SHEETS_MAX];
+
+    static
+    {
+        for (int i = 0; i < SHEETS_MAX; i++)
+        {
+            SHEETS[i] = Integer.valueOf(i);
+        }
+    }
+
+    /**
+     * Get level data as buffer.
+     * 
+     * @param level The level file.
+     * @return The level data.
+     * @throws IOException If error on reading.
+     */
+    private static ByteBuffer read(Media level) throws IOException
+    {
+        final File file = level.getFile();
+        if (file != null && file.isFile())
+        {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+            {
+                return channel.map(MapMode.READ_ONLY, 0L, channel.size());
+            }
+        }
+        try (InputStream input = level.getInputStream();
+             ByteArrayOutputStream output = new ByteArrayOutputStream(READ_BUFFER_SIZE))
+        {
+            final byte[] buffer = new byte[READ_BUFFER_SIZE];
+            int read;
+            while ((read = input.read(buffer)) > 0)
+            {
+                output.write(buffer, 0, read);
+            }
+            return ByteBuffer.wrap(output.toByteArray());
+        }
+    }
+
+    /**
+     * Read string as written by {@link FileWriting#writeString(String)}.
+     * 
+     * @param buffer The buffer reference.
+     * @return The read string.
+     */
+    private static String readString(ByteBuffer buffer)
+    {
+        final byte[] data = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(data);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Check if level data use versioned format.
+     * 
+     * @param buffer The level data.
+     * @return <code>true</code> if versioned, <code>false</code> if version 1 format.
+     */
+    private static boolean isVersioned(ByteBuffer buffer)
+    {
+        return buffer.remaining() >= Integer.BYTES && (buffer.getInt(buffer.position()) & MAGIC_MASK) == MAGIC;
+    }
+
+    /**
+     * Compress data.
+     * 
+     * @param data The data to compress.
+     * @param length The data length.
+     * @return The compressed data.
+     */
+    private static byte[] compress(byte[] data, int length)
+    {
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try
+        {
+            deflater.setInput(data, 0, length);
+            deflater.finish();
+
+            final ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(1, length / 2));
+            final byte[] buffer = new byte[READ_BUFFER_SIZE];
+            while (!deflater.finished())
+            {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        }
+        finally
+        {
+            deflater.end();
+        }
+    }
+
+    /** Chunks offset in level data. */
+    private int[] chunkOffsets = new int[0];
+    /** Chunks compressed length. */
+    private int[] chunkLengths = new int[0];
+    /** Chunks tiles number. */
+    private int[] chunkTiles = new int[0];
+    /** Level data (<code>null</code> if not loaded from version 2 level). */
+    private ByteBuffer data;
+
     /**
      * Create the persister.
      * <p>
@@ -50,6 +207,393 @@ public class MapTilePersisterOptimized extends MapTilePersisterModel
         super(services);
     }
 
+    /**
+     * Save map and entities to level file with current format version.
+     * 
+     * @param level The level file.
+     * @param handler The entities persister.
+     * @throws IOException If error on writing.
+     */
+    public void save(Media level, HandlerPersister handler) throws IOException
+    {
+        try (OutputStream output = level.getOutputStream())
+        {
+            save(output, handler);
+        }
+    }
+
+    /**
+     * Save map and entities to output with current format version.
+     * 
+     * @param output The output (not closed).
+     * @param handler The entities persister.
+     * @throws IOException If error on writing.
+     */
+    public void save(OutputStream output, HandlerPersister handler) throws IOException
+    {
+        final int chunks = (int) Math.ceil(map.getInTileWidth() / (double) BLOC_SIZE);
+        final byte[][] payloads = new byte[chunks][];
+        final int[] tiles = new int[chunks];
+        final byte[] raw = new byte[BLOC_SIZE * map.getInTileHeight() * TILE_SIZE];
+        for (int i = 0; i < chunks; i++)
+        {
+            final ByteBuffer chunk = ByteBuffer.wrap(raw);
+            tiles[i] = saveChunk(chunk, i);
+            payloads[i] = compress(raw, chunk.position());
+        }
+
+        final ByteArrayOutputStream entities = new ByteArrayOutputStream();
+        try (FileWriting writing = new FileWriting(entities))
+        {
+            handler.save(writing);
+        }
+
+        final Media sheets = map.getMedia();
+        final byte[] sheetsPath;
+        if (sheets != null)
+        {
+            sheetsPath = sheets.getPath().getBytes(StandardCharsets.UTF_8);
+        }
+        else
+        {
+            sheetsPath = new byte[0];
+        }
+
+        final int headerSize = Integer.BYTES * 5
+                               + 1
+                               + Short.BYTES
+                               + sheetsPath.length
+                               + Short.BYTES
+                               + chunks * CHUNK_ENTRY_SIZE
+                               + Integer.BYTES * 2;
+        final ByteBuffer header = ByteBuffer.allocate(headerSize);
+        header.putInt(MAGIC | VERSION);
+        header.putInt(map.getTileWidth());
+        header.putInt(map.getTileHeight());
+        header.putInt(map.getInTileWidth());
+        header.putInt(map.getInTileHeight());
+        header.put((byte) (sheets != null ? 1 : 0));
+        header.putShort((short) sheetsPath.length);
+        header.put(sheetsPath);
+        header.putShort((short) chunks);
+
+        int offset = headerSize;
+        for (int i = 0; i < chunks; i++)
+        {
+            header.putInt(offset);
+            header.putInt(payloads[i].length);
+            header.putInt(tiles[i]);
+            offset += payloads[i].length;
+        }
+        header.putInt(offset);
+        header.putInt(entities.size());
+
+        output.write(header.array());
+        for (int i = 0; i < chunks; i++)
+        {
+            output.write(payloads[i]);
+        }
+        entities.writeTo(output);
+    }
+
+    /**
+     * Load map from level file, with all tiles decoded from a single buffer.
+     * <p>
+     * Version 1 and version 2 formats are supported.
+     * </p>
+     * 
+     * @param level The level file.
+     * @return The reading positioned on entities data (must be closed).
+     * @throws IOException If error on reading.
+     */
+    public FileReading load(Media level) throws IOException
+    {
+        return load(level, true);
+    }
+
+    /**
+     * Load map from level file.
+     * <p>
+     * Version 1 and version 2 formats are supported. Version 1 map is always fully loaded, as it has no chunk table.
+     * </p>
+     * 
+     * @param level The level file.
+     * @param chunks <code>true</code> to load all chunks, <code>false</code> to only create map and let chunks be
+     *            loaded on demand with {@link #loadChunk(int)}.
+     * @return The reading positioned on entities data (must be closed).
+     * @throws IOException If error on reading.
+     */
+    public FileReading load(Media level, boolean chunks) throws IOException
+    {
+        return load(read(level), chunks);
+    }
+
+    /**
+     * Load map from level data.
+     * <p>
+     * Version 1 and version 2 formats are supported. Version 1 map is always fully loaded, as it has no chunk table.
+     * </p>
+     * 
+     * @param buffer The level data, kept by persister for chunks loading.
+     * @param chunks <code>true</code> to load all chunks, <code>false</code> to only create map and let chunks be
+     *            loaded on demand with {@link #loadChunk(int)}.
+     * @return The reading positioned on entities data (must be closed).
+     * @throws IOException If error on reading.
+     */
+    public FileReading load(ByteBuffer buffer, boolean chunks) throws IOException
+    {
+        if (isVersioned(buffer))
+        {
+            loadHeader(buffer);
+            for (int i = 0; chunks && i < chunkOffsets.length; i++)
+            {
+                loadChunk(i);
+            }
+        }
+        else
+        {
+            loadMap(buffer);
+        }
+        return new FileReading(new BufferInputStream(buffer));
+    }
+
+    /**
+     * Load tiles of a chunk from the last level loaded with version 2 format.
+     * 
+     * @param index The chunk index (chunk covers {@link #BLOC_SIZE} columns).
+     * @throws IOException If error on reading chunk.
+     */
+    public void loadChunk(int index) throws IOException
+    {
+        loadChunk(index, decodeChunk(index));
+    }
+
+    /**
+     * Decode chunk data from the last level loaded with version 2 format.
+     * <p>
+     * Map is not modified, so decoding can be performed outside of the map update thread.
+     * </p>
+     * 
+     * @param index The chunk index (chunk covers {@link #BLOC_SIZE} columns).
+     * @return The decoded chunk data, to be loaded with {@link #loadChunk(int, byte[])}.
+     * @throws IOException If error on reading chunk.
+     */
+    public byte[] decodeChunk(int index) throws IOException
+    {
+        final ByteBuffer source = data;
+        if (source == null)
+        {
+            throw new IOException(ERROR_NO_CHUNKS);
+        }
+        final byte[] compressed = new byte[chunkLengths[index]];
+        final ByteBuffer chunk = source.duplicate();
+        chunk.position(chunkOffsets[index]);
+        chunk.get(compressed);
+
+        final byte[] raw = new byte[chunkTiles[index] * TILE_SIZE];
+        final Inflater inflater = new Inflater();
+        try
+        {
+            inflater.setInput(compressed);
+            int read = 0;
+            while (read < raw.length && !inflater.finished() && !inflater.needsInput())
+            {
+                read += inflater.inflate(raw, read, raw.length - read);
+            }
+            if (read < raw.length)
+            {
+                throw new IOException(ERROR_CHUNK + index);
+            }
+        }
+        catch (final DataFormatException exception)
+        {
+            throw new IOException(ERROR_CHUNK + index, exception);
+        }
+        finally
+        {
+            inflater.end();
+        }
+        return raw;
+    }
+
+    /**
+     * Load decoded chunk tiles in map.
+     * 
+     * @param index The chunk index (chunk covers {@link #BLOC_SIZE} columns).
+     * @param raw The decoded chunk data.
+     */
+    public void loadChunk(int index, byte[] raw)
+    {
+        loadTiles(ByteBuffer.wrap(raw), index, raw.length / TILE_SIZE, map.getTileWidth(), map.getTileHeight());
+    }
+
+    /**
+     * Remove chunk tiles from map.
+     * 
+     * @param index The chunk index (chunk covers {@link #BLOC_SIZE} columns).
+     */
+    public void unloadChunk(int index)
+    {
+        final int startX = index * BLOC_SIZE;
+        final int endX = Math.min(startX + BLOC_SIZE, map.getInTileWidth());
+        final int height = map.getInTileHeight();
+        for (int tx = startX; tx < endX; tx++)
+        {
+            for (int ty = 0; ty < height; ty++)
+            {
+                final Tile tile = map.getTile(tx, ty);
+                if (tile != null)
+                {
+                    map.removeTile(tile);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the number of columns covered by a chunk.
+     * 
+     * @return The chunk size in tile.
+     */
+    public int getChunkSize()
+    {
+        return BLOC_SIZE;
+    }
+
+    /**
+     * Get the number of chunks of the last level loaded with version 2 format.
+     * 
+     * @return The chunks number (<code>0</code> if none).
+     */
+    public int getChunks()
+    {
+        return chunkOffsets.length;
+    }
+
+    /**
+     * Save chunk tiles.
+     * 
+     * @param chunk The output chunk data.
+     * @param index The chunk index.
+     * @return The number of saved tiles.
+     */
+    private int saveChunk(ByteBuffer chunk, int index)
+    {
+        final int startX = index * BLOC_SIZE;
+        final int endX = Math.min(startX + BLOC_SIZE, map.getInTileWidth());
+        final int height = map.getInTileHeight();
+
+        int count = 0;
+        for (int tx = startX; tx < endX; tx++)
+        {
+            for (int ty = 0; ty < height; ty++)
+            {
+                final Tile tile = map.getTile(tx, ty);
+                if (tile != null)
+                {
+                    chunk.put(UtilConversion.fromUnsignedByte((short) tile.getSheet().intValue()));
+                    chunk.putChar((char) tile.getNumber());
+                    chunk.put(UtilConversion.fromUnsignedByte((short) (tile.getInTileX() % BLOC_SIZE)));
+                    chunk.putChar((char) tile.getInTileY());
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Load version 2 header and chunk table, and position buffer on entities data.
+     * 
+     * @param buffer The level data.
+     * @throws IOException If unsupported version.
+     */
+    private void loadHeader(ByteBuffer buffer) throws IOException
+    {
+        final int version = buffer.getInt() & ~MAGIC_MASK;
+        if (version > VERSION)
+        {
+            throw new IOException(ERROR_VERSION + version);
+        }
+        loadMapHeader(buffer);
+
+        final int chunks = buffer.getShort() & 0xFFFF;
+        chunkOffsets = new int[chunks];
+        chunkLengths = new int[chunks];
+        chunkTiles = new int[chunks];
+        for (int i = 0; i < chunks; i++)
+        {
+            chunkOffsets[i] = buffer.getInt();
+            chunkLengths[i] = buffer.getInt();
+            chunkTiles[i] = buffer.getInt();
+        }
+        final int entitiesOffset = buffer.getInt();
+        final int entitiesLength = buffer.getInt();
+
+        data = buffer.duplicate();
+        buffer.limit(entitiesOffset + entitiesLength);
+        buffer.position(entitiesOffset);
+    }
+
+    /**
+     * Load map header and create map.
+     * 
+     * @param buffer The buffer positioned on map header.
+     */
+    private void loadMapHeader(ByteBuffer buffer)
+    {
+        final int tileWidth = buffer.getInt();
+        final int tileHeight = buffer.getInt();
+        map.create(tileWidth, tileHeight, buffer.getInt(), buffer.getInt());
+        if (buffer.get() != 0)
+        {
+            map.loadSheets(Medias.create(readString(buffer)));
+        }
+    }
+
+    /**
+     * Load version 1 map header and all tiles blocks from buffer.
+     * 
+     * @param buffer The buffer positioned on map data.
+     */
+    private void loadMap(ByteBuffer buffer)
+    {
+        data = null;
+        chunkOffsets = new int[0];
+        chunkLengths = new int[0];
+        chunkTiles = new int[0];
+
+        loadMapHeader(buffer);
+
+        final int blocks = buffer.getShort() & 0xFFFF;
+        for (int i = 0; i < blocks; i++)
+        {
+            loadTiles(buffer, i, buffer.getShort() & 0xFFFF, map.getTileWidth(), map.getTileHeight());
+        }
+    }
+
+    /**
+     * Load tiles block from buffer.
+     * 
+     * @param buffer The buffer positioned on tiles data.
+     * @param block The block index.
+     * @param count The number of tiles.
+     * @param tileWidth The tile width.
+     * @param tileHeight The tile height.
+     */
+    private void loadTiles(ByteBuffer buffer, int block, int count, int tileWidth, int tileHeight)
+    {
+        final int offsetX = block * BLOC_SIZE * tileWidth;
+        for (int j = 0; j < count; j++)
+        {
+            final Integer sheet = SHEETS[UtilConversion.toUnsignedByte(buffer.get())];
+            final int number = buffer.getChar();
+            final int x = UtilConversion.toUnsignedByte(buffer.get()) * tileWidth + offsetX;
+            final int y = buffer.getChar() * tileHeight;
+            map.setTile(map.createTile(sheet, number, x, y));
+        }
+    }
+
     @Override
     protected void saveTile(FileWriting file, Tile tile) throws IOException
     {
@@ -62,11 +606,60 @@ public class MapTilePersisterOptimized extends MapTilePersisterModel
     @Override
     protected Tile loadTile(FileReading file, int i) throws IOException
     {
-        final Integer sheet = Integer.valueOf(UtilConversion.toUnsignedByte(file.readByte()));
+        final Integer sheet = SHEETS[UtilConversion.toUnsignedByte(file.readByte())];
         final int number = file.readChar();
         final byte b = file.readByte();
         final int x = UtilConversion.toUnsignedByte(b) * map.getTileWidth() + i * BLOC_SIZE * map.getTileWidth();
         final int y = file.readChar() * map.getTileHeight();
         return map.createTile(sheet, number, x, y);
     }
+
+    /**
+     * Input stream on remaining buffer data.
+     */
+    private static final class BufferInputStream extends InputStream
+    {
+        /** Buffer reference. */
+        private final ByteBuffer buffer;
+
+        /**
+         * Create stream.
+         * 
+         * @param buffer The buffer reference.
+         */
+        BufferInputStream(ByteBuffer buffer)
+        {
+            super();
+
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read()
+        {
+            if (buffer.hasRemaining())
+            {
+                return buffer.get() & 0xFF;
+            }
+            return -1;
+        }
+
+        @Override
+        public int read(byte[] data, int offset, int length)
+        {
+            if (!buffer.hasRemaining())
+            {
+                return -1;
+            }
+            final int read = Math.min(length, buffer.remaining());
+            buffer.get(data, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available()
+        {
+            return buffer.remaining();
+        }
+    }
 }
@@ -0,0 +1,273 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.b3dgs.lionengine.Updatable;
+import com.b3dgs.lionengine.UtilMath;
+import com.b3dgs.lionengine.Verbose;
+import com.b3dgs.lionengine.game.feature.Camera;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
+
+/**
+ * Stream map chunks around camera.
+ * <p>
+ * Only chunks within a number of screens around the camera are kept resident. Chunks ahead of the camera movement are
+ * decoded on a background thread and loaded in map on update, chunks left behind are removed from map. The chunk under
+ * the camera is always loaded immediately if missing (on teleport). Chunks failing to decode are logged once and never
+ * requested again.
+ * </p>
+ * <p>
+ * Entities located on removed chunks have no tile collision, so resident area must cover the area where entities are
+ * updated.
+ * </p>
+ * <p>
+ * {@link #dispose()} must be called once streaming is no longer needed.
+ * </p>
+ */
+final class MapTileStreamer implements Updatable
+{
+    /** Decoding thread name. */
+    private static final String THREAD_NAME = "MapTileStreamer";
+    /** Idle decoding thread keep alive in seconds. */
+    private static final long THREAD_KEEP_ALIVE = 1L;
+
+    /** Decoded chunks waiting to be loaded. */
+    private final Queue<Chunk> decoded = new ConcurrentLinkedQueue<>();
+    /** Chunks decoding executor. */
+    private final ThreadPoolExecutor executor;
+    /** Map persister reference. */
+    private final MapTilePersisterOptimized persister;
+    /** Camera reference. */
+    private final Camera camera;
+    /** Resident chunks. */
+    private final boolean[] resident;
+    /** Chunks being decoded. */
+    private final boolean[] pending;
+    /** Chunks failed to decode. */
+    private final boolean[] failed;
+    /** Chunk width in pixel. */
+    private final int chunkWidth;
+    /** Number of screens kept resident on each side of the camera. */
+    private final int screens;
+
+    /**
+     * Create streamer.
+     * 
+     * @param persister The map persister, with a version 2 level loaded.
+     * @param map The map reference.
+     * @param camera The camera reference.
+     * @param screens The number of screens kept resident on each side of the camera.
+     */
+    MapTileStreamer(MapTilePersisterOptimized persister, MapTile map, Camera camera, int screens)
+    {
+        super();
+
+        this.persister = persister;
+        this.camera = camera;
+        this.screens = screens;
+
+        resident = new boolean[persister.getChunks()];
+        pending = new boolean[resident.length];
+        failed = new boolean[resident.length];
+        chunkWidth = persister.getChunkSize() * map.getTileWidth();
+
+        executor = new ThreadPoolExecutor(1, 1, THREAD_KEEP_ALIVE, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r ->
+        {
+            final Thread thread = new Thread(r, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Load immediately chunks around horizontal location.
+     * 
+     * @param x The horizontal location.
+     */
+    public void load(double x)
+    {
+        final int current = getChunk(x);
+        final int margin = getMargin();
+        for (int i = Math.max(0, current - margin); i <= Math.min(resident.length - 1, current + margin); i++)
+        {
+            loadNow(i);
+        }
+    }
+
+    /**
+     * Stop decoding thread. Pending decodings are discarded.
+     */
+    public void dispose()
+    {
+        executor.shutdownNow();
+        decoded.clear();
+    }
+
+    /**
+     * Get chunk index at horizontal location.
+     * 
+     * @param x The horizontal location.
+     * @return The chunk index.
+     */
+    private int getChunk(double x)
+    {
+        return UtilMath.clamp((int) Math.floor(x / chunkWidth), 0, resident.length - 1);
+    }
+
+    /**
+     * Get the number of resident chunks on each side of the current chunk.
+     * 
+     * @return The chunks margin.
+     */
+    private int getMargin()
+    {
+        return (int) Math.ceil(screens * camera.getWidth() / (double) chunkWidth);
+    }
+
+    /**
+     * Load chunk immediately if not resident and not failed.
+     * 
+     * @param index The chunk index.
+     */
+    private void loadNow(int index)
+    {
+        if (!resident[index] && !failed[index])
+        {
+            try
+            {
+                persister.loadChunk(index);
+                resident[index] = true;
+            }
+            catch (final IOException exception)
+            {
+                failed[index] = true;
+                Verbose.exception(exception);
+            }
+        }
+    }
+
+    /**
+     * Request chunk decoding on background thread if not resident, pending or failed.
+     * 
+     * @param index The chunk index.
+     */
+    private void request(int index)
+    {
+        if (!resident[index] && !pending[index] && !failed[index])
+        {
+            pending[index] = true;
+            executor.execute(() ->
+            {
+                try
+                {
+                    decoded.add(new Chunk(index, persister.decodeChunk(index)));
+                }
+                catch (final IOException exception)
+                {
+                    Verbose.exception(exception);
+                    decoded.add(new Chunk(index, null));
+                }
+            });
+        }
+    }
+
+    /**
+     * Load decoded chunks still in resident area. Failed chunks are marked as failed, to not be requested again.
+     * 
+     * @param start The first resident chunk.
+     * @param end The last resident chunk.
+     */
+    private void loadDecoded(int start, int end)
+    {
+        Chunk chunk;
+        while ((chunk = decoded.poll()) != null)
+        {
+            final int index = chunk.index;
+            pending[index] = false;
+            if (chunk.data == null)
+            {
+                failed[index] = true;
+            }
+            else if (!resident[index] && index >= start && index <= end)
+            {
+                persister.loadChunk(index, chunk.data);
+                resident[index] = true;
+            }
+        }
+    }
+
+    @Override
+    public void update(double extrp)
+    {
+        final int current = getChunk(camera.getX() + camera.getWidth() / 2.0);
+        final int margin = getMargin();
+        final double movement = camera.getMovementHorizontal();
+
+        final int start = Math.max(0, current - margin - (movement < 0.0 ? 1 : 0));
+        final int end = Math.min(resident.length - 1, current + margin + (movement > 0.0 ? 1 : 0));
+
+        loadNow(current);
+        loadDecoded(start, end);
+
+        for (int i = 0; i < resident.length; i++)
+        {
+            if (i >= start && i <= end)
+            {
+                request(i);
+            }
+            else if (resident[i] && (i < start - 1 || i > end + 1))
+            {
+                persister.unloadChunk(i);
+                resident[i] = false;
+            }
+        }
+    }
+
+    /**
+     * Decoded chunk data.
+     */
+    private static final class Chunk
+    {
+        /** Chunk index. */
+        private final int index;
+        /** Chunk data, <code>null</code> if decoding failed. */
+        private final byte[] data;
+
+        /**
+         * Create chunk.
+         * 
+         * @param index The chunk index.
+         * @param data The chunk data (<code>null</code> if decoding failed).
+         */
+        Chunk(int index, byte[] data)
+        {
+            super();
+
+            this.index = index;
+            this.data = data;
+        }
+    }
+}
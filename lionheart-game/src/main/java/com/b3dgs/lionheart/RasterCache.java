@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32;
+
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.Verbose;
+import com.b3dgs.lionengine.graphic.Graphics;
+import com.b3dgs.lionengine.graphic.drawable.Drawable;
+import com.b3dgs.lionengine.graphic.drawable.Sprite;
+
+/**
+ * Rastered images cache.
+ * <p>
+ * Rasters are shared at runtime by image, raster and count. On disk, they are identified by a key computed from image
+ * and raster file size and modification date (or content if not available as file, such as in a jar), so any change in
+ * one of them produces new rasters. They are saved in {@link Constant#FOLDER_RASTERS} of user folder, to be loaded
+ * instead of generated on next launch. Saving is skipped with a warning if cache folder is not writable.
+ * </p>
+ */
+public final class RasterCache
+{
+    /** Read buffer size. */
+    private static final int BUFFER = 8192;
+    /** Cached image extension. */
+    private static final String EXTENSION = ".png";
+    /** Key separator. */
+    private static final String SEPARATOR = "_";
+    /** Saving error. */
+    private static final String ERROR_SAVE = "Unable to save rasters: ";
+    /** Cache folder, in user folder as resources may not be writable. */
+    private static final File FOLDER = new File(new File(System.getProperty("user.home"), Constant.FOLDER_USER),
+                                                Constant.FOLDER_RASTERS);
+
+    /** Loaded rasters by image, raster and count. */
+    private static final Map<String, Sprite[]> RASTERS = new ConcurrentHashMap<>();
+
+    /**
+     * Get rasters of image, loaded from cache or generated.
+     * 
+     * @param image The image media.
+     * @param raster The raster media.
+     * @param count The number of rasters.
+     * @param generator The rasters generator, called on cache miss, providing each raster by index.
+     * @return The shared rasters (must not be modified).
+     * @throws LionEngineException If unable to read image or raster.
+     */
+    public static Sprite[] get(Media image,
+                               Media raster,
+                               int count,
+                               BiFunction<Media, Media, IntFunction<Sprite>> generator)
+    {
+        final String id = image.getPath() + SEPARATOR + raster.getPath() + SEPARATOR + count;
+        return RASTERS.computeIfAbsent(id, k -> load(getKey(image, raster, count), image, raster, count, generator));
+    }
+
+    /**
+     * Compute key from image and raster metadata, only called on runtime cache miss.
+     * 
+     * @param image The image media.
+     * @param raster The raster media.
+     * @param count The number of rasters.
+     * @return The rasters key.
+     * @throws LionEngineException If unable to read image or raster.
+     */
+    static String getKey(Media image, Media raster, int count)
+    {
+        return getKey(image) + SEPARATOR + getKey(raster) + SEPARATOR + count;
+    }
+
+    /**
+     * Compute media key from its path, size and modification date, or its content checksum if not available as file.
+     * 
+     * @param media The media reference.
+     * @return The media key.
+     * @throws LionEngineException If unable to read media.
+     */
+    private static String getKey(Media media)
+    {
+        final String path = Integer.toHexString(media.getPath().hashCode());
+        final File file = media.getFile();
+        if (file.isFile())
+        {
+            return path
+                   + SEPARATOR
+                   + Long.toHexString(file.length())
+                   + SEPARATOR
+                   + Long.toHexString(file.lastModified());
+        }
+        return path + SEPARATOR + Long.toHexString(getChecksum(media));
+    }
+
+    /**
+     * Compute media content checksum.
+     * 
+     * @param media The media to read.
+     * @return The content checksum.
+     * @throws LionEngineException If unable to read media.
+     */
+    private static long getChecksum(Media media)
+    {
+        final CRC32 crc = new CRC32();
+        final byte[] buffer = new byte[BUFFER];
+        try (InputStream input = media.getInputStream())
+        {
+            int read = input.read(buffer);
+            while (read > 0)
+            {
+                crc.update(buffer, 0, read);
+                read = input.read(buffer);
+            }
+        }
+        catch (final IOException exception)
+        {
+            throw new LionEngineException(exception, media);
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Load rasters from cache folder, or generate and save them if missing.
+     * 
+     * @param key The rasters key.
+     * @param image The image media.
+     * @param raster The raster media.
+     * @param count The number of rasters.
+     * @param generator The rasters generator.
+     * @return The loaded rasters.
+     */
+    private static Sprite[] load(String key,
+                                 Media image,
+                                 Media raster,
+                                 int count,
+                                 BiFunction<Media, Media, IntFunction<Sprite>> generator)
+    {
+        final File folder = new File(FOLDER, key);
+        final Media[] files = new Media[count];
+        boolean cached = true;
+        for (int i = 0; i < count; i++)
+        {
+            final File file = new File(folder, i + EXTENSION);
+            files[i] = Medias.get(file);
+            cached = cached && file.isFile();
+        }
+
+        final Sprite[] rasters = new Sprite[count];
+        if (cached)
+        {
+            for (int i = 0; i < count; i++)
+            {
+                rasters[i] = Drawable.loadSprite(files[i]);
+                rasters[i].load();
+                rasters[i].prepare();
+            }
+        }
+        else
+        {
+            final IntFunction<Sprite> generated = generator.apply(image, raster);
+            for (int i = 0; i < count; i++)
+            {
+                rasters[i] = generated.apply(i);
+            }
+            save(folder, files, rasters);
+        }
+        return rasters;
+    }
+
+    /**
+     * Save generated rasters to cache folder.
+     * 
+     * @param folder The rasters folder.
+     * @param files The raster files.
+     * @param rasters The generated rasters.
+     */
+    private static void save(File folder, Media[] files, Sprite[] rasters)
+    {
+        try
+        {
+            if (folder.isDirectory() || folder.mkdirs())
+            {
+                for (int i = 0; i < rasters.length; i++)
+                {
+                    Graphics.saveImage(rasters[i].getSurface(), files[i]);
+                }
+            }
+            else
+            {
+                Verbose.warning(ERROR_SAVE, folder.getPath());
+            }
+        }
+        catch (final LionEngineException exception)
+        {
+            Verbose.exception(exception, ERROR_SAVE, folder.getPath());
+        }
+    }
+
+    /**
+     * Private constructor.
+     */
+    private RasterCache()
+    {
+        throw new LionEngineException(LionEngineException.ERROR_PRIVATE_CONSTRUCTOR);
+    }
+}
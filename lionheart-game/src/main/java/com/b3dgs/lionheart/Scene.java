@@ -17,31 +17,23 @@
  */
 package com.b3dgs.lionheart;
 
-import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import com.b3dgs.lionengine.Align;
 import com.b3dgs.lionengine.Context;
-import com.b3dgs.lionengine.Verbose;
-import com.b3dgs.lionengine.game.feature.Factory;
-import com.b3dgs.lionengine.game.feature.Handler;
-import com.b3dgs.lionengine.game.feature.HandlerPersister;
+import com.b3dgs.lionengine.LionEngineException;
 import com.b3dgs.lionengine.game.feature.SequenceGame;
-import com.b3dgs.lionengine.game.feature.Services;
-import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
-import com.b3dgs.lionengine.game.feature.tile.map.MapTileGame;
-import com.b3dgs.lionengine.game.feature.tile.map.persister.MapTilePersister;
 import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Graphics;
 import com.b3dgs.lionengine.graphic.Text;
-import com.b3dgs.lionengine.io.FileWriting;
 
 /**
  * Game scene implementation.
  */
 final class Scene extends SequenceGame
 {
-    private static final String ERROR_SAVING_MAP = "Error on saving map !";
     private static final String NAME = Constant.PROGRAM_NAME
                                        + com.b3dgs.lionengine.Constant.SPACE
                                        + Constant.PROGRAM_VERSION;
@@ -66,67 +58,88 @@ final class Scene extends SequenceGame
         text.setColor(ColorRgba.GRAY_LIGHT);
     }
 
-    /**
-     * Import the level and save it.
-     * 
-     * @param level The level to import.
-     */
-    private static void importLevelAndSave(Level level)
-    {
-        final Services services = new Services();
-        services.add(new Factory(services));
-        services.add(new Handler(services));
-
-        final MapTile map = services.create(MapTileGame.class);
-        final MapTilePersister mapPersister = map.addFeatureAndGet(new MapTilePersisterOptimized(services));
-        final HandlerPersister handlerPersister = new HandlerPersister(services);
-        map.create(level.getRip());
-
-        try (FileWriting output = new FileWriting(level.getFile()))
-        {
-            mapPersister.save(output);
-            handlerPersister.save(output);
-        }
-        catch (final IOException exception)
-        {
-            Verbose.exception(exception, ERROR_SAVING_MAP);
-        }
-    }
-
     private final Text textName = Graphics.createText(9);
     private final Text textEngine = Graphics.createText(9);
+    private final LoadingLogo logo = new LoadingLogo();
+    private final LoadingTasks tasks = new LoadingTasks();
     /** Current level. */
-    private final Level level = Level.SWAMP_DEMO;
+    private final Level level;
+    /** Level loading, <code>null</code> once loaded. */
+    private CompletableFuture<Void> loading;
 
     /**
      * Create the scene.
      * 
      * @param context The context reference.
+     * @param level The level to load.
      */
-    public Scene(Context context)
+    public Scene(Context context, Level level)
     {
         super(context, Constant.NATIVE_RESOLUTION, services -> new World(services));
+
+        this.level = level;
     }
 
     @Override
     public void load()
     {
-        if (!level.getFile().exists())
-        {
-            importLevelAndSave(level);
-        }
-        world.loadFromFile(level.getFile());
+        logo.load(getWidth(), getHeight());
+        loading = ((World) world).load(level.getFile(), tasks);
 
         setText(textEngine, ENGINE, 0, getHeight() - textEngine.getSize(), Align.LEFT);
         setText(textName, NAME, getWidth(), getHeight() - textName.getSize(), Align.RIGHT);
     }
 
+    @Override
+    public void update(double extrp)
+    {
+        if (loading == null)
+        {
+            super.update(extrp);
+        }
+        else
+        {
+            logo.setProgress(tasks.getProgress());
+            logo.update(extrp);
+
+            if (loading.isCompletedExceptionally() || loading.isDone() && logo.isFull())
+            {
+                try
+                {
+                    loading.join();
+                }
+                catch (final CompletionException exception)
+                {
+                    throw new LionEngineException(exception.getCause(), level.getFile());
+                }
+                ((World) world).loaded();
+                logo.dispose();
+                loading = null;
+            }
+        }
+    }
+
     @Override
     public void render(Graphic g)
     {
-        super.render(g);
+        if (loading == null)
+        {
+            super.render(g);
+
+            textEngine.render(g);
+            textName.render(g);
+        }
+        else
+        {
+            logo.render(g);
+        }
+    }
+
+    @Override
+    public void onTerminated(boolean hasNextSequence)
+    {
+        super.onTerminated(hasNextSequence);
 
-        textEngine.render(g);
-        textName.render(g);
+        ((World) world).dispose();
     }
 }
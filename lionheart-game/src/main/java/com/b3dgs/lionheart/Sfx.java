@@ -45,15 +45,34 @@ public enum Sfx
     /** Monster hurt. */
     MONSTER_HURT;
 
-    /** Audio handler. */
-    private final Audio audio;
+    /** Audio enabled flag. */
+    private static volatile boolean enabled = true;
+
+    /** Audio handler, <code>null</code> until loaded. */
+    private volatile Audio audio;
+
+    /**
+     * Enable or disable sounds. Disabled sounds are not loaded nor played (headless).
+     * 
+     * @param enabled <code>true</code> to play sounds, <code>false</code> to stay silent.
+     */
+    public static void setEnabled(boolean enabled)
+    {
+        Sfx.enabled = enabled;
+    }
 
     /**
-     * Create Sfx.
+     * Load all sounds, to be called during level loading. Does nothing if sounds are disabled.
      */
-    Sfx()
+    public static void loadAll()
     {
-        audio = AudioFactory.loadAudio(get());
+        if (enabled)
+        {
+            for (final Sfx sfx : values())
+            {
+                sfx.load();
+            }
+        }
     }
 
     /**
@@ -67,10 +86,35 @@ public enum Sfx
     }
 
     /**
-     * Play sound.
+     * Play sound. Sound is loaded first if {@link #loadAll()} has not been called.
      */
     public void play()
     {
-        audio.play();
+        if (enabled)
+        {
+            final Audio loaded = audio;
+            if (loaded != null)
+            {
+                loaded.play();
+            }
+            else
+            {
+                load().play();
+            }
+        }
+    }
+
+    /**
+     * Load sound if not already loaded.
+     * 
+     * @return The loaded audio.
+     */
+    private synchronized Audio load()
+    {
+        if (audio == null)
+        {
+            audio = AudioFactory.loadAudio(get());
+        }
+        return audio;
     }
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+
+import com.b3dgs.lionengine.Config;
+import com.b3dgs.lionengine.Context;
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Resolution;
+import com.b3dgs.lionengine.game.feature.Featurable;
+import com.b3dgs.lionengine.game.feature.Services;
+import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
+import com.b3dgs.lionengine.io.InputDevice;
+
+/**
+ * Headless deterministic simulation of a level.
+ * <p>
+ * World is updated at a fixed rate, as fast as possible, without rendering, audio nor input devices. Images are still
+ * loaded with the current graphic factory, which must have been set by the platform (can be headless).
+ * </p>
+ */
+public final class Simulation
+{
+    /** Fixed extrapolation, one frame at {@link Constant#NATIVE_RESOLUTION} rate. */
+    private static final double EXTRP = 1.0;
+    /** Missing device error. */
+    private static final String ERROR_DEVICE = "No input device in headless mode: ";
+
+    /** World reference. */
+    private final World world;
+    /** Number of updated frames. */
+    private long frames;
+
+    /**
+     * Create simulation and load level. Level is imported if missing.
+     * 
+     * @param level The level to simulate.
+     * @throws LionEngineException If error on loading level.
+     */
+    public Simulation(Level level)
+    {
+        super();
+
+        Sfx.setEnabled(false);
+
+        final Resolution resolution = Constant.NATIVE_RESOLUTION;
+        final Services services = new Services();
+        services.add(new HeadlessContext(Config.windowed(resolution)));
+        services.add(new SourceResolutionProvider()
+        {
+            @Override
+            public int getWidth()
+            {
+                return resolution.getWidth();
+            }
+
+            @Override
+            public int getHeight()
+            {
+                return resolution.getHeight();
+            }
+
+            @Override
+            public int getRate()
+            {
+                return resolution.getRate();
+            }
+        });
+        world = new World(services);
+
+        try
+        {
+            if (!level.getFile().exists())
+            {
+                LevelImporter.importLevel(level.getRip(), level.getFile());
+            }
+            world.load(level.getFile(), new LoadingTasks()).join();
+        }
+        catch (final IOException exception)
+        {
+            throw new LionEngineException(exception, level.getFile());
+        }
+        catch (final CompletionException exception)
+        {
+            throw new LionEngineException(exception.getCause(), level.getFile());
+        }
+        world.loaded();
+        world.onResolutionChanged(resolution.getWidth(), resolution.getHeight());
+    }
+
+    /**
+     * Update world for a number of frames, as fast as possible.
+     * 
+     * @param count The number of frames to update.
+     * @return The elapsed time in nanoseconds.
+     */
+    public long run(long count)
+    {
+        final long start = System.nanoTime();
+        for (long i = 0; i < count; i++)
+        {
+            world.update(EXTRP);
+        }
+        frames += count;
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Spawn featurable in world. It is added to world on next update.
+     * 
+     * @param media The featurable media.
+     * @param x The horizontal location.
+     * @param y The vertical location.
+     * @return The spawned featurable.
+     * @throws LionEngineException If invalid media.
+     */
+    public Featurable spawn(Media media, double x, double y)
+    {
+        return world.add(media, x, y);
+    }
+
+    /**
+     * Get the number of updated frames.
+     * 
+     * @return The updated frames.
+     */
+    public long getFrames()
+    {
+        return frames;
+    }
+
+    /**
+     * Context without display nor input device.
+     */
+    private static final class HeadlessContext implements Context
+    {
+        /** Configuration. */
+        private final Config config;
+
+        /**
+         * Create context.
+         * 
+         * @param config The configuration.
+         */
+        HeadlessContext(Config config)
+        {
+            super();
+
+            this.config = config;
+        }
+
+        @Override
+        public int getX()
+        {
+            return 0;
+        }
+
+        @Override
+        public int getY()
+        {
+            return 0;
+        }
+
+        @Override
+        public Config getConfig()
+        {
+            return config;
+        }
+
+        @Override
+        public <T extends InputDevice> T getInputDevice(Class<T> type)
+        {
+            throw new LionEngineException(ERROR_DEVICE, type.getName());
+        }
+    }
+}
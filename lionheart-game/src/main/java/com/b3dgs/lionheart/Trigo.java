@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart;
+
+import com.b3dgs.lionengine.LionEngineException;
+
+/**
+ * Shared trigonometric table, indexed by degree.
+ * <p>
+ * In deterministic mode (default), values are read from a table computed once with {@link StrictMath}, giving the same
+ * results on any virtual machine (required by replays and simulations). Otherwise {@link Math} is used.
+ * </p>
+ */
+public final class Trigo
+{
+    /** Table precision (entries per degree). */
+    private static final int PRECISION = 16;
+    /** Table length, covering <code>[0, 360[</code>. */
+    private static final int LENGTH = 360 * PRECISION;
+    /** Cosine offset in table (quarter turn). */
+    private static final int COS_OFFSET = LENGTH / 4;
+    /** Degrees per radian. */
+    private static final double DEGREE_PER_RADIAN = 180.0 / Math.PI;
+    /** Sine table. */
+    private static final double[] SIN = createTable();
+
+    /** Deterministic flag. */
+    private static volatile boolean deterministic = true;
+
+    /**
+     * Enable or disable deterministic mode.
+     * 
+     * @param deterministic <code>true</code> to read values from table, <code>false</code> to use {@link Math}.
+     */
+    public static void setDeterministic(boolean deterministic)
+    {
+        Trigo.deterministic = deterministic;
+    }
+
+    /**
+     * Check if deterministic mode is enabled.
+     * 
+     * @return <code>true</code> if values are read from table, <code>false</code> if computed with {@link Math}.
+     */
+    public static boolean isDeterministic()
+    {
+        return deterministic;
+    }
+
+    /**
+     * Get the sine value.
+     * 
+     * @param degree The angle in degree.
+     * @return The sine value.
+     */
+    public static double sin(double degree)
+    {
+        if (deterministic)
+        {
+            return SIN[getIndex(degree)];
+        }
+        return Math.sin(Math.toRadians(degree));
+    }
+
+    /**
+     * Get the cosine value.
+     * 
+     * @param degree The angle in degree.
+     * @return The cosine value.
+     */
+    public static double cos(double degree)
+    {
+        if (deterministic)
+        {
+            return SIN[(getIndex(degree) + COS_OFFSET) % LENGTH];
+        }
+        return Math.cos(Math.toRadians(degree));
+    }
+
+    /**
+     * Get the sine value.
+     * 
+     * @param radian The angle in radian.
+     * @return The sine value.
+     */
+    public static double sinRadian(double radian)
+    {
+        if (deterministic)
+        {
+            return SIN[getIndex(radian * DEGREE_PER_RADIAN)];
+        }
+        return Math.sin(radian);
+    }
+
+    /**
+     * Get the cosine value.
+     * 
+     * @param radian The angle in radian.
+     * @return The cosine value.
+     */
+    public static double cosRadian(double radian)
+    {
+        if (deterministic)
+        {
+            return SIN[(getIndex(radian * DEGREE_PER_RADIAN) + COS_OFFSET) % LENGTH];
+        }
+        return Math.cos(radian);
+    }
+
+    /**
+     * Get the nearest table index of angle, wrapped on <code>[0, 360[</code>.
+     * 
+     * @param degree The angle in degree.
+     * @return The table index.
+     */
+    private static int getIndex(double degree)
+    {
+        final int index = (int) (Math.floor(degree * PRECISION + 0.5) % LENGTH);
+        if (index < 0)
+        {
+            return index + LENGTH;
+        }
+        return index;
+    }
+
+    /**
+     * Create sine table.
+     * 
+     * @return The sine of each table angle.
+     */
+    private static double[] createTable()
+    {
+        final double[] table = new double[LENGTH];
+        for (int i = 0; i < LENGTH; i++)
+        {
+            table[i] = StrictMath.sin(StrictMath.toRadians(i / (double) PRECISION));
+        }
+        return table;
+    }
+
+    /**
+     * Private constructor.
+     */
+    private Trigo()
+    {
+        throw new LionEngineException(LionEngineException.ERROR_PRIVATE_CONSTRUCTOR);
+    }
+}
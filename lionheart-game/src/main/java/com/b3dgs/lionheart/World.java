@@ -18,27 +18,30 @@
 package com.b3dgs.lionheart;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.Media;
 import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.UtilMath;
 import com.b3dgs.lionengine.game.feature.CameraTracker;
+import com.b3dgs.lionengine.game.feature.Featurable;
 import com.b3dgs.lionengine.game.feature.HandlerPersister;
 import com.b3dgs.lionengine.game.feature.LayerableModel;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.WorldGame;
-import com.b3dgs.lionengine.game.feature.collidable.ComponentCollision;
 import com.b3dgs.lionengine.game.feature.tile.TileGroupsConfig;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTileGame;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTileGroup;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTileGroupModel;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.CollisionFormulaConfig;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.CollisionGroupConfig;
+import com.b3dgs.lionengine.game.feature.tile.map.collision.MapTileCollision;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.MapTileCollisionModel;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.MapTileCollisionRenderer;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.MapTileCollisionRendererModel;
-import com.b3dgs.lionengine.game.feature.tile.map.persister.MapTilePersister;
 import com.b3dgs.lionengine.game.feature.tile.map.raster.MapTileRastered;
 import com.b3dgs.lionengine.game.feature.tile.map.raster.MapTileRasteredModel;
 import com.b3dgs.lionengine.game.feature.tile.map.viewer.MapTileViewer;
@@ -54,21 +57,43 @@ import com.b3dgs.lionheart.landscape.Landscape;
 import com.b3dgs.lionheart.landscape.LandscapeType;
 import com.b3dgs.lionheart.landscape.WorldType;
 import com.b3dgs.lionheart.object.Entity;
+import com.b3dgs.lionheart.object.EntityCommands;
+import com.b3dgs.lionheart.object.EntityPhysics;
+import com.b3dgs.lionheart.object.EntityPool;
+import com.b3dgs.lionheart.object.EntityTemplates;
 
 /**
  * World game representation.
  */
 final class World extends WorldGame
 {
+    private static final String TASK_MAP = "map";
+    private static final String TASK_RASTERS = "rasters";
+    private static final String TASK_GROUPS = "groups";
+    private static final String TASK_COLLISIONS = "collisions";
+    private static final String TASK_LANDSCAPE = "landscape";
+    private static final String TASK_SOUNDS = "sounds";
+    private static final String ERROR_LOADING = "Level must be loaded from media, as version 2 level is read at once !";
+
     private final MapTile map = services.create(MapTileGame.class);
     private final MapTileViewer mapViewer = map.addFeatureAndGet(new MapTileViewerModel(services));
-    private final MapTilePersister mapPersister = map.addFeatureAndGet(new MapTilePersisterOptimized(services));
+    private final MapTilePersisterOptimized mapPersister = map.addFeatureAndGet(new MapTilePersisterOptimized(
+                                                                                                        services));
     private final MapTileRastered mapRaster = map.addFeatureAndGet(new MapTileRasteredModel(services));
-    private final Zooming zooming = services.get(Zooming.class);
-    private final InputDevicePointer pointer = getInputDevice(InputDevicePointer.class);
+    /** Zooming, <code>null</code> if headless. */
+    private final Zooming zooming = getZooming();
+    /** Pointer used for zoom, <code>null</code> if headless. */
+    private final InputDevicePointer pointer = getPointer();
     private final FactoryLandscape factoryLandscape;
     private final Hud hud = new Hud();
+    private final EntityCommands commands;
     private Landscape landscape;
+    /** Level file loading, positioned after map data, <code>null</code> if not loading. */
+    private CompletableFuture<FileReading> loadingFile;
+    /** Landscape loading, <code>null</code> if not loading. */
+    private CompletableFuture<Landscape> loadingLandscape;
+    /** Map streamer, <code>null</code> if map fully loaded. */
+    private MapTileStreamer mapStreamer;
 
     private double scale = 1;
 
@@ -92,20 +117,68 @@ final class World extends WorldGame
 
         factoryLandscape = new FactoryLandscape(source, false);
 
-        handler.addComponent(new ComponentCollision());
+        final EntityPool pool = new EntityPool(factory, handler);
+        services.add(pool);
+        handler.addListener(pool);
+        commands = new EntityCommands(pool);
+        services.add(commands);
+        handler.addComponent(new EntityPhysics(commands, Constant.PARALLEL_UPDATE));
+        handler.addComponent(new ComponentCollisionGrid(map, Constant.COLL_GRID_CELL_TILES));
         handler.add(map);
     }
 
+    /**
+     * Get zooming service.
+     * 
+     * @return The zooming, <code>null</code> if not available (headless).
+     */
+    private Zooming getZooming()
+    {
+        try
+        {
+            return services.get(Zooming.class);
+        }
+        catch (final LionEngineException exception)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Get pointer device.
+     * 
+     * @return The pointer, <code>null</code> if not available (headless).
+     */
+    private InputDevicePointer getPointer()
+    {
+        try
+        {
+            return getInputDevice(InputDevicePointer.class);
+        }
+        catch (final LionEngineException exception)
+        {
+            return null;
+        }
+    }
+
     @Override
     public void update(double extrp)
     {
-        pointer.update(extrp);
-        if (pointer.getClick() == 2)
+        if (pointer != null && zooming != null)
         {
-            scale = UtilMath.clamp(scale + pointer.getMoveY() / 100.0, 0.5, 1.42);
-            zooming.setZoom(scale);
+            pointer.update(extrp);
+            if (pointer.getClick() == 2)
+            {
+                scale = UtilMath.clamp(scale + pointer.getMoveY() / 100.0, 0.5, 1.42);
+                zooming.setZoom(scale);
+            }
         }
         super.update(extrp);
+        commands.flush();
+        if (mapStreamer != null)
+        {
+            mapStreamer.update(extrp);
+        }
         landscape.update(extrp, camera);
         camera.moveLocation(extrp, 0.0, 0.0);
         hud.update(extrp);
@@ -120,29 +193,166 @@ final class World extends WorldGame
         hud.render(g);
     }
 
+    /**
+     * Release world resources and shared entity templates, once world ended.
+     */
+    public void dispose()
+    {
+        if (mapStreamer != null)
+        {
+            mapStreamer.dispose();
+            mapStreamer = null;
+        }
+        EntityTemplates.clear();
+    }
+
     @Override
     protected void saving(FileWriting file) throws IOException
     {
         mapPersister.save(file);
     }
 
-    @Override
-    protected void loading(FileReading file) throws IOException
+    /**
+     * Load level asynchronously, each part being loaded by a separate task. Map is loaded first, then rasters, groups
+     * and collisions, while landscape and sounds are loaded in parallel. Entities are created by {@link #loaded()} on
+     * update thread, as handler is not thread safe. World must not be updated until {@link #loaded()} has been called.
+     * <p>
+     * If {@link Constant#MAP_STREAMING} is enabled and level is chunked, only chunks around camera are loaded.
+     * </p>
+     * 
+     * @param level The level file.
+     * @param tasks The loading tasks.
+     * @return The future done when all tasks are done.
+     */
+    public CompletableFuture<Void> load(Media level, LoadingTasks tasks)
+    {
+        prepareMap();
+
+        loadingFile = tasks.supply(TASK_MAP, () -> mapPersister.load(level, !Constant.MAP_STREAMING));
+        final CompletableFuture<Void> rasters = tasks.run(loadingFile, TASK_RASTERS, this::loadRasters);
+        final CompletableFuture<Void> groups = tasks.run(loadingFile, TASK_GROUPS, this::loadGroups);
+        final CompletableFuture<Void> collisions = tasks.run(groups, TASK_COLLISIONS, this::loadCollisions);
+        loadingLandscape = tasks.supply(TASK_LANDSCAPE, this::createLandscape);
+        final CompletableFuture<Void> sounds = tasks.run(TASK_SOUNDS, Sfx::loadAll);
+        return CompletableFuture.allOf(loadingFile, rasters, collisions, loadingLandscape, sounds);
+    }
+
+    /**
+     * Finish loading once all loading tasks are done, by creating entities and player. Landscape is applied to current
+     * screen size, as resolution may have changed during loading. Must be called on update thread.
+     * 
+     * @throws LionEngineException If error on reading entities.
+     */
+    public void loaded()
+    {
+        landscape = loadingLandscape.join();
+        loadingLandscape = null;
+        if (camera.getWidth() > 0 && camera.getHeight() > 0)
+        {
+            landscape.setScreenSize(camera.getWidth(), camera.getHeight());
+        }
+
+        try (FileReading file = loadingFile.join())
+        {
+            loadEntities(file);
+        }
+        catch (final IOException exception)
+        {
+            throw new LionEngineException(exception);
+        }
+        finally
+        {
+            loadingFile = null;
+        }
+        loadPlayer(Constant.MAP_STREAMING && mapPersister.getChunks() > 0);
+    }
+
+    /**
+     * Create featurable at location and add it to handler.
+     * 
+     * @param media The featurable media.
+     * @param x The horizontal location.
+     * @param y The vertical location.
+     * @return The created featurable.
+     */
+    Featurable add(Media media, double x, double y)
+    {
+        final Featurable featurable = factory.create(media);
+        featurable.getFeature(Transformable.class).teleport(x, y);
+        handler.add(featurable);
+        return featurable;
+    }
+
+    /**
+     * Add map features, before loading them.
+     */
+    private void prepareMap()
+    {
+        map.addFeature(new LayerableModel(3, 1));
+        map.addFeature(new MapTileGroupModel());
+        map.addFeature(new MapTileCollisionModel(services));
+    }
+
+    /**
+     * Load map rasters.
+     */
+    private void loadRasters()
     {
-        mapPersister.load(file);
         mapRaster.loadSheets(Medias.create(map.getMedia().getParentPath(), "raster1.xml"), false);
         mapViewer.clear();
         mapViewer.addRenderer(mapRaster);
+    }
 
+    /**
+     * Load map tile groups.
+     */
+    private void loadGroups()
+    {
         final String world = WorldType.SWAMP.getFolder();
-
-        map.addFeature(new LayerableModel(3, 1));
-        map.addFeatureAndGet(new MapTileGroupModel())
+        map.getFeature(MapTileGroup.class)
            .loadGroups(Medias.create(Constant.FOLDER_LEVELS, world, TileGroupsConfig.FILENAME));
-        map.addFeatureAndGet(new MapTileCollisionModel(services))
+    }
+
+    /**
+     * Load map tile collisions, once groups are loaded.
+     */
+    private void loadCollisions()
+    {
+        final String world = WorldType.SWAMP.getFolder();
+        map.getFeature(MapTileCollision.class)
            .loadCollisions(Medias.create(Constant.FOLDER_LEVELS, world, CollisionFormulaConfig.FILENAME),
                            Medias.create(Constant.FOLDER_LEVELS, world, CollisionGroupConfig.FILENAME));
+    }
+
+    /**
+     * Create landscape.
+     * 
+     * @return The created landscape.
+     */
+    private Landscape createLandscape()
+    {
+        return factoryLandscape.createLandscape(LandscapeType.SWAMP_DUSK);
+    }
+
+    /**
+     * Load entities.
+     * 
+     * @param file The file reading positioned after map data.
+     * @throws IOException If error on reading.
+     */
+    private void loadEntities(FileReading file) throws IOException
+    {
+        final HandlerPersister handlerPersister = new HandlerPersister(services);
+        handlerPersister.load(file);
+    }
 
+    /**
+     * Load player and camera once world has been loaded.
+     * 
+     * @param streaming <code>true</code> to stream map chunks around camera, <code>false</code> if map fully loaded.
+     */
+    private void loadPlayer(boolean streaming)
+    {
         if (Constant.DEBUG)
         {
             final MapTileCollisionRenderer mapCollisionRenderer;
@@ -154,11 +364,6 @@ final class World extends WorldGame
         camera.setLimits(map);
         camera.setIntervals(16, 0);
 
-        landscape = factoryLandscape.createLandscape(LandscapeType.SWAMP_DUSK);
-
-        final HandlerPersister handlerPersister = new HandlerPersister(services);
-        handlerPersister.load(file);
-
         final Entity valdyn = factory.create(Medias.create(Constant.FOLDER_PLAYERS, "default", "Valdyn.xml"));
 
         final Transformable valdynTransformable = valdyn.getFeature(Transformable.class);
@@ -172,13 +377,42 @@ final class World extends WorldGame
         tracker.track(valdynTransformable);
         handler.add(tracker);
 
-        zooming.setZoom(scale);
+        if (streaming)
+        {
+            final MapTileStreamer streamer = new MapTileStreamer(mapPersister,
+                                                                 map,
+                                                                 camera,
+                                                                 Constant.MAP_STREAMING_SCREENS);
+            streamer.load(valdynTransformable.getX());
+            mapStreamer = streamer;
+        }
+
+        if (zooming != null)
+        {
+            zooming.setZoom(scale);
+        }
+    }
+
+    /**
+     * Not supported, level must be loaded with {@link #load(Media, LoadingTasks)}, as version 2 level data is read
+     * from a single buffer for chunks loading.
+     * 
+     * @param file The level file.
+     * @throws IOException Always.
+     */
+    @Override
+    protected void loading(FileReading file) throws IOException
+    {
+        throw new IOException(ERROR_LOADING);
     }
 
     @Override
     public void onResolutionChanged(int width, int height)
     {
         camera.setView(0, 0, width, height, height);
-        landscape.setScreenSize(width, height);
+        if (landscape != null)
+        {
+            landscape.setScreenSize(width, height);
+        }
     }
 }
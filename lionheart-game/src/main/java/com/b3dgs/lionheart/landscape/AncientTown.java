@@ -83,8 +83,9 @@ final class AncientTown extends BackgroundAbstract
     {
         private final BackgroundElement backcolorA;
         private final BackgroundElement backcolorB;
+        private final BackgroundStrip backcolorStripA;
+        private final BackgroundStrip backcolorStripB;
         private final boolean flickering;
-        private int screenWidth;
         private int flickerCount;
         private boolean flickerType;
 
@@ -104,24 +105,31 @@ final class AncientTown extends BackgroundAbstract
             {
                 backcolorA = createElement(path, "backcolor_a.png", 0, 0);
                 backcolorB = createElement(path, "backcolor_b.png", 0, 0);
+                backcolorStripB = new BackgroundStrip((Sprite) backcolorB.getRenderable());
                 flickerCount = 0;
             }
             else
             {
                 backcolorA = createElement(path, "backcolor.png", 0, 0);
                 backcolorB = null;
+                backcolorStripB = null;
             }
+            backcolorStripA = new BackgroundStrip((Sprite) backcolorA.getRenderable());
             setScreenWidth(screenWidth);
         }
 
         /**
-         * Called when the resolution changed.
+         * Called when the resolution changed. Bake strips for the new width.
          * 
          * @param width The new width.
          */
         private void setScreenWidth(int width)
         {
-            screenWidth = width;
+            backcolorStripA.bake(width, 0);
+            if (backcolorStripB != null)
+            {
+                backcolorStripB.bake(width, 0);
+            }
         }
 
         @Override
@@ -142,22 +150,16 @@ final class AncientTown extends BackgroundAbstract
         @Override
         public void render(Graphic g)
         {
-            final Sprite sprite;
+            final BackgroundStrip strip;
             if (flickerType || !flickering)
             {
-                sprite = (Sprite) backcolorA.getRenderable();
+                strip = backcolorStripA;
             }
             else
             {
-                sprite = (Sprite) backcolorB.getRenderable();
-            }
-            for (int i = 0; i < Math.ceil(screenWidth / (double) sprite.getWidth()); i++)
-            {
-                final int x = backcolorA.getMainX() + i * sprite.getWidth();
-                final double y = backcolorA.getOffsetY() + backcolorA.getMainY();
-                sprite.setLocation(x, y);
-                sprite.render(g);
+                strip = backcolorStripB;
             }
+            strip.render(g, backcolorA.getMainX(), backcolorA.getOffsetY() + backcolorA.getMainY());
         }
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart.landscape;
+
+import com.b3dgs.lionengine.graphic.ColorRgba;
+import com.b3dgs.lionengine.graphic.Graphic;
+import com.b3dgs.lionengine.graphic.Graphics;
+import com.b3dgs.lionengine.graphic.ImageBuffer;
+import com.b3dgs.lionengine.graphic.drawable.Drawable;
+import com.b3dgs.lionengine.graphic.drawable.Sprite;
+
+/**
+ * Horizontal strip of a repeated background sprite, baked once for a screen size and rendered in one call.
+ */
+final class BackgroundStrip
+{
+    /** Repeated sprite. */
+    private final Sprite tile;
+    /** Baked surface. */
+    private ImageBuffer buffer;
+    /** Baked strip. */
+    private Sprite strip;
+
+    /**
+     * Create strip.
+     * 
+     * @param tile The repeated sprite (must be loaded).
+     */
+    BackgroundStrip(Sprite tile)
+    {
+        super();
+
+        this.tile = tile;
+    }
+
+    /**
+     * Bake strip with enough repetitions to cover width. Previous strip is disposed.
+     * 
+     * @param width The width to cover.
+     * @param margin The additional repetitions (used when strip is scrolled).
+     */
+    void bake(int width, int margin)
+    {
+        final int tileWidth = tile.getWidth();
+        final int count = (int) Math.ceil(width / (double) tileWidth) + margin;
+        final ImageBuffer baked = Graphics.createImageBuffer(count * tileWidth,
+                                                             tile.getHeight(),
+                                                             ColorRgba.TRANSPARENT);
+        final Graphic g = baked.createGraphic();
+        for (int i = 0; i < count; i++)
+        {
+            tile.setLocation(i * tileWidth, 0);
+            tile.render(g);
+        }
+        g.dispose();
+        baked.prepare();
+
+        if (buffer != null)
+        {
+            buffer.dispose();
+        }
+        buffer = baked;
+        strip = Drawable.loadSprite(baked);
+    }
+
+    /**
+     * Render strip at location.
+     * 
+     * @param g The graphic output.
+     * @param x The horizontal location.
+     * @param y The vertical location.
+     */
+    void render(Graphic g, double x, double y)
+    {
+        strip.setLocation(x, y);
+        strip.render(g);
+    }
+}
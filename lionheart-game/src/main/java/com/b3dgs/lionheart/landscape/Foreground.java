@@ -30,6 +30,7 @@ import com.b3dgs.lionengine.graphic.drawable.Sprite;
 import com.b3dgs.lionengine.graphic.drawable.SpriteAnimated;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.Trigo;
 
 /**
  * Water foreground implementation.
@@ -298,6 +299,10 @@ final class Foreground extends BackgroundAbstract
 
         /**
          * Update water effect.
+         * <p>
+         * Each row below water line is shifted horizontally. Consecutive rows with the same shift are copied at once,
+         * and rows without shift are skipped.
+         * </p>
          * 
          * @param g The graphics output.
          * @param speed The effect speed.
@@ -308,11 +313,38 @@ final class Foreground extends BackgroundAbstract
         private void waterEffect(Graphic g, double speed, double frequency, double amplitude, double offsetForce)
         {
             final int oy = py + (int) water.getHeight();
-            for (int y = screenHeight + getNominal() - UNKNOWN_OFFSET + oy; y < screenHeight; y++)
+            final int start = Math.max(0, screenHeight + getNominal() - UNKNOWN_OFFSET + oy);
+            final double phase = wx * frequency;
+            final double outside = Trigo.cosRadian(wx) * offsetForce;
+
+            int run = start;
+            int runOffset = 0;
+            for (int y = start; y < screenHeight; y++)
+            {
+                final int offset = (int) (Trigo.cosRadian(y + phase) * amplitude + outside);
+                if (offset != runOffset)
+                {
+                    copyRows(g, run, y, runOffset);
+                    run = y;
+                    runOffset = offset;
+                }
+            }
+            copyRows(g, run, screenHeight, runOffset);
+        }
+
+        /**
+         * Shift rows horizontally.
+         * 
+         * @param g The graphics output.
+         * @param start The first row.
+         * @param end The last row excluded.
+         * @param offset The horizontal shift.
+         */
+        private void copyRows(Graphic g, int start, int end, int offset)
+        {
+            if (offset != 0 && end > start)
             {
-                final double inside = Math.cos(UtilMath.wrapDouble(y + wx * frequency, 0.0, 360.0)) * amplitude;
-                final double outside = Math.cos(wx) * offsetForce;
-                g.copyArea(0, y, screenWidth, 1, (int) (inside + outside), 0);
+                g.copyArea(0, start, screenWidth, end - start, offset, 0);
             }
         }
 
@@ -327,7 +359,7 @@ final class Foreground extends BackgroundAbstract
 
             height += water.getSpeed() * extrp;
             height = UtilMath.wrapDouble(height, 0.0, 360.0);
-            water.setHeight(Math.sin(height) * water.getDepth());
+            water.setHeight(Trigo.sinRadian(height) * water.getDepth());
             py = y;
             wx += WATER_EFFECT_SPEED * extrp;
         }
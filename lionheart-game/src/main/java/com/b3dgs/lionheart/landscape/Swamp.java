@@ -29,6 +29,7 @@ import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.drawable.Sprite;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.RasterCache;
 
 /**
  * Swamp background implementation.
@@ -99,12 +100,16 @@ final class Swamp extends BackgroundAbstract
         private final BackgroundElement backcolorA;
         private final BackgroundElement backcolorB;
         private final BackgroundElement mountain;
-        private final BackgroundElementRastered moon;
+        private final BackgroundElement moon;
+        private final Sprite[] moonRasters;
         private final Sprite mountainSprite;
+        private final BackgroundStrip backcolorStripA;
+        private final BackgroundStrip backcolorStripB;
+        private final BackgroundStrip mountainStrip;
         private final boolean flickering;
         private final int moonOffset;
-        private int w;
-        private int screenWidth;
+        private Sprite moonSprite;
+        private int moonRaster;
         private int flickerCount;
         private boolean flickerType;
 
@@ -124,35 +129,47 @@ final class Swamp extends BackgroundAbstract
             {
                 backcolorA = createElement(path, "backcolor_a.png", 0, 0);
                 backcolorB = createElement(path, "backcolor_b.png", 0, 0);
+                backcolorStripB = new BackgroundStrip((Sprite) backcolorB.getRenderable());
                 flickerCount = 0;
             }
             else
             {
                 backcolorA = createElement(path, "backcolor.png", 0, 0);
                 backcolorB = null;
+                backcolorStripB = null;
             }
+            backcolorStripA = new BackgroundStrip((Sprite) backcolorA.getRenderable());
             mountain = createElement(path, "mountain.png", 0, 124);
             final int x = (int) (165 * scaleH);
             moonOffset = 49;
-            moon = new BackgroundElementRastered(x,
-                                                 moonOffset,
-                                                 Medias.create(path, "moon.png"),
-                                                 Medias.create(path, "moon.xml"),
-                                                 MOON_RASTERS);
+            moonRasters = RasterCache.get(Medias.create(path, "moon.png"),
+                                          Medias.create(path, "moon.xml"),
+                                          MOON_RASTERS,
+                                          (image, raster) -> new BackgroundElementRastered(0,
+                                                                                           0,
+                                                                                           image,
+                                                                                           raster,
+                                                                                           MOON_RASTERS)::getRaster);
+            moon = new BackgroundElement(x, moonOffset, moonRasters[0]);
+            moonSprite = moonRasters[moonRaster];
             mountainSprite = (Sprite) mountain.getRenderable();
-            this.screenWidth = screenWidth;
-            w = (int) Math.ceil(screenWidth / (double) ((Sprite) mountain.getRenderable()).getWidth()) + 1;
+            mountainStrip = new BackgroundStrip(mountainSprite);
+            setScreenWidth(screenWidth);
         }
 
         /**
-         * Called when the resolution changed.
+         * Called when the resolution changed. Bake strips for the new width.
          * 
          * @param width The new width.
          */
         private void setScreenWidth(int width)
         {
-            screenWidth = width;
-            w = (int) Math.ceil(screenWidth / (double) ((Sprite) mountain.getRenderable()).getWidth()) + 1;
+            backcolorStripA.bake(width, 0);
+            if (backcolorStripB != null)
+            {
+                backcolorStripB.bake(width, 0);
+            }
+            mountainStrip.bake(width, 1);
         }
 
         /**
@@ -162,22 +179,16 @@ final class Swamp extends BackgroundAbstract
          */
         private void renderBackdrop(Graphic g)
         {
-            final Sprite sprite;
+            final BackgroundStrip strip;
             if (flickerType || !flickering)
             {
-                sprite = (Sprite) backcolorA.getRenderable();
+                strip = backcolorStripA;
             }
             else
             {
-                sprite = (Sprite) backcolorB.getRenderable();
-            }
-            for (int i = 0; i < Math.ceil(screenWidth / (double) sprite.getWidth()); i++)
-            {
-                final int x = backcolorA.getMainX() + i * sprite.getWidth();
-                final double y = backcolorA.getOffsetY() + backcolorA.getMainY();
-                sprite.setLocation(x, y);
-                sprite.render(g);
+                strip = backcolorStripB;
             }
+            strip.render(g, backcolorA.getMainX(), backcolorA.getOffsetY() + backcolorA.getMainY());
         }
 
         /**
@@ -187,10 +198,8 @@ final class Swamp extends BackgroundAbstract
          */
         private void renderMoon(Graphic g)
         {
-            final int id = (int) (mountain.getOffsetY() + (totalHeight - getOffsetY())) / 6;
-            final Sprite spriteMoon = moon.getRaster(id);
-            spriteMoon.setLocation(moon.getMainX(), moon.getOffsetY() + moon.getMainY());
-            spriteMoon.render(g);
+            moonSprite.setLocation(moon.getMainX(), moon.getOffsetY() + moon.getMainY());
+            moonSprite.render(g);
         }
 
         /**
@@ -202,12 +211,7 @@ final class Swamp extends BackgroundAbstract
         {
             final int oy = (int) (mountain.getOffsetY() + mountain.getMainY());
             final int ox = (int) (-mountain.getOffsetX() + mountain.getMainX());
-            final int sx = mountainSprite.getWidth();
-            for (int j = 0; j < w; j++)
-            {
-                mountainSprite.setLocation(ox + sx * j, oy);
-                mountainSprite.render(g);
-            }
+            mountainStrip.render(g, ox, oy);
         }
 
         @Override
@@ -219,6 +223,13 @@ final class Swamp extends BackgroundAbstract
             mountain.setOffsetX(UtilMath.wrapDouble(mx, 0.0, mountainSprite.getWidth()));
             mountain.setOffsetY(y);
 
+            final int raster = (int) (mountain.getOffsetY() + (totalHeight - getOffsetY())) / 6;
+            if (raster != moonRaster)
+            {
+                moonRaster = raster;
+                moonSprite = moonRasters[UtilMath.clamp(raster, 0, MOON_RASTERS - 1)];
+            }
+
             if (flickering)
             {
                 flickerCount = (flickerCount + 1) % 2;
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart.object;
+
+import com.b3dgs.lionengine.Check;
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.game.Configurer;
+
+/**
+ * Activity configuration.
+ */
+public final class ActivityConfig
+{
+    /** Config node name. */
+    private static final String NODE_ACTIVITY = "activity";
+    /** Sleep attribute name. */
+    private static final String ATT_SLEEP = "sleep";
+
+    /**
+     * Imports from configurer.
+     * 
+     * @param configurer The configurer reference (must not be <code>null</code>).
+     * @return The data.
+     * @throws LionEngineException If unable to read node.
+     */
+    public static ActivityConfig imports(Configurer configurer)
+    {
+        Check.notNull(configurer);
+
+        final boolean sleep = configurer.getBooleanDefault(true, ATT_SLEEP, NODE_ACTIVITY);
+
+        return new ActivityConfig(sleep);
+    }
+
+    /** Sleep enabled. */
+    private final boolean sleep;
+
+    /**
+     * Create config.
+     * 
+     * @param sleep The sleep flag.
+     */
+    private ActivityConfig(boolean sleep)
+    {
+        super();
+
+        this.sleep = sleep;
+    }
+
+    /**
+     * Check if sleep is enabled.
+     * 
+     * @return <code>true</code> if entity sleeps outside activity area, <code>false</code> if always updated.
+     */
+    public boolean hasSleep()
+    {
+        return sleep;
+    }
+}
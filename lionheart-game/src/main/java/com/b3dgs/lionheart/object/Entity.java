@@ -120,7 +120,7 @@ public final class Entity extends FeaturableModel
     public void addAfter(Services services, Setup setup)
     {
         final EntityModel model = getFeature(EntityModel.class);
-        addFeature(new EntityUpdater(services, model));
+        addFeature(new EntityUpdater(services, setup, model));
         getFeature(EntityRenderer.class).loadRoutines();
     }
 }
@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart.object;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.b3dgs.lionengine.Check;
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.game.feature.Identifiable;
+import com.b3dgs.lionengine.game.feature.Transformable;
+import com.b3dgs.lionheart.Sfx;
+
+/**
+ * Entity side effect commands.
+ * <p>
+ * Spawn, destroy and sound commands are queued during frame, and applied by {@link #flush()} once per frame, in this
+ * order. Spawns are done by {@link EntityPool}. Queues are preallocated ring buffers, growing only if a frame exceeds
+ * their capacity. A same sound queued several times in a frame is played once.
+ * </p>
+ * <p>
+ * Other side effects which touch shared state (other entities) are executed immediately, unless entities are updated
+ * in parallel by {@link EntityPhysics}. They are then stored in a buffer owned by the calling thread, and all buffers
+ * are applied on the updating thread once all entities have been updated. Commands of a same thread are applied in
+ * submission order. Order between threads is not defined.
+ * </p>
+ */
+public final class EntityCommands
+{
+    /** Default queues capacity. */
+    private static final int CAPACITY = 32;
+
+    /** Pool reference. */
+    private final EntityPool pool;
+    /** Spawned medias. */
+    private final Ring<Media> spawnMedias = new Ring<>(CAPACITY);
+    /** Spawn locations, in the same order as medias. */
+    private final Ring<Transformable> spawnLocations = new Ring<>(CAPACITY);
+    /** Destroyed entities. */
+    private final Ring<Identifiable> destroyed = new Ring<>(CAPACITY);
+    /** Played sounds. */
+    private final Ring<Sfx> played = new Ring<>(Sfx.values().length);
+    /** Sounds already queued in current frame, by ordinal. */
+    private final boolean[] playing = new boolean[Sfx.values().length];
+    /** Buffers of all threads which deferred commands. */
+    private final List<List<Runnable>> buffers = new ArrayList<>();
+    /** Buffer of current thread. */
+    private final ThreadLocal<List<Runnable>> buffer = ThreadLocal.withInitial(this::createBuffer);
+    /** Deferred flag. */
+    private volatile boolean deferred;
+
+    /**
+     * Create commands.
+     * 
+     * @param pool The pool reference.
+     */
+    public EntityCommands(EntityPool pool)
+    {
+        super();
+
+        Check.notNull(pool);
+
+        this.pool = pool;
+    }
+
+    /**
+     * Queue entity spawn at location. Location is read on flush.
+     * 
+     * @param media The entity media.
+     * @param location The spawn location.
+     */
+    public synchronized void spawn(Media media, Transformable location)
+    {
+        spawnMedias.offer(media);
+        spawnLocations.offer(location);
+    }
+
+    /**
+     * Queue entity destruction.
+     * 
+     * @param identifiable The entity to destroy.
+     */
+    public synchronized void destroy(Identifiable identifiable)
+    {
+        destroyed.offer(identifiable);
+    }
+
+    /**
+     * Queue sound playback. Ignored if already queued in current frame.
+     * 
+     * @param sfx The sound to play.
+     */
+    public synchronized void play(Sfx sfx)
+    {
+        if (!playing[sfx.ordinal()])
+        {
+            playing[sfx.ordinal()] = true;
+            played.offer(sfx);
+        }
+    }
+
+    /**
+     * Apply all queued spawn, destroy and sound commands. Must be called once per frame by updating thread.
+     */
+    public synchronized void flush()
+    {
+        while (!spawnMedias.isEmpty())
+        {
+            pool.spawn(spawnMedias.poll(), spawnLocations.poll());
+        }
+        while (!destroyed.isEmpty())
+        {
+            destroyed.poll().destroy();
+        }
+        while (!played.isEmpty())
+        {
+            final Sfx sfx = played.poll();
+            playing[sfx.ordinal()] = false;
+            sfx.play();
+        }
+    }
+
+    /**
+     * Execute command, or store it in current thread buffer if deferred.
+     * 
+     * @param command The command to execute.
+     */
+    public void execute(Runnable command)
+    {
+        if (deferred)
+        {
+            buffer.get().add(command);
+        }
+        else
+        {
+            command.run();
+        }
+    }
+
+    /**
+     * Start deferring executed commands.
+     */
+    void defer()
+    {
+        deferred = true;
+    }
+
+    /**
+     * Stop deferring and apply all executed commands. Must be called by updating thread, once parallel update is done.
+     */
+    void applyDeferred()
+    {
+        deferred = false;
+
+        final int n = buffers.size();
+        for (int i = 0; i < n; i++)
+        {
+            final List<Runnable> commands = buffers.get(i);
+            final int count = commands.size();
+            for (int j = 0; j < count; j++)
+            {
+                commands.get(j).run();
+            }
+            commands.clear();
+        }
+    }
+
+    /**
+     * Create buffer for current thread.
+     * 
+     * @return The created buffer.
+     */
+    private List<Runnable> createBuffer()
+    {
+        final List<Runnable> created = new ArrayList<>();
+        synchronized (buffers)
+        {
+            buffers.add(created);
+        }
+        return created;
+    }
+
+    /**
+     * Ring buffer of commands arguments. Polled slots are cleared to not retain references.
+     * 
+     * @param <T> The argument type.
+     */
+    private static final class Ring<T>
+    {
+        /** Stored items. */
+        private Object[] items;
+        /** Index of first item. */
+        private int head;
+        /** Number of items. */
+        private int size;
+
+        /**
+         * Create ring.
+         * 
+         * @param capacity The initial capacity.
+         */
+        Ring(int capacity)
+        {
+            super();
+
+            items = new Object[capacity];
+        }
+
+        /**
+         * Add item at end, growing if full.
+         * 
+         * @param item The item to add.
+         */
+        void offer(T item)
+        {
+            if (size == items.length)
+            {
+                final Object[] grown = new Object[items.length * 2];
+                for (int i = 0; i < size; i++)
+                {
+                    grown[i] = items[(head + i) % items.length];
+                }
+                items = grown;
+                head = 0;
+            }
+            items[(head + size) % items.length] = item;
+            size++;
+        }
+
+        /**
+         * Remove first item.
+         * 
+         * @return The removed item.
+         */
+        @SuppressWarnings("unchecked")
+        T poll()
+        {
+            final T item = (T) items[head];
+            items[head] = null;
+            head = (head + 1) % items.length;
+            size--;
+            return item;
+        }
+
+        /**
+         * Check if empty.
+         * 
+         * @return <code>true</code> if empty, <code>false</code> else.
+         */
+        boolean isEmpty()
+        {
+            return size == 0;
+        }
+    }
+}
@@ -26,28 +26,45 @@ import com.b3dgs.lionengine.game.feature.FeatureModel;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.body.Body;
+import com.b3dgs.lionengine.game.feature.collidable.Collidable;
+import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
+import com.b3dgs.lionengine.game.feature.collidable.CollidableListenerVoid;
+import com.b3dgs.lionengine.game.feature.collidable.Collision;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
+import com.b3dgs.lionengine.game.feature.tile.map.collision.CollisionCategory;
+import com.b3dgs.lionengine.game.feature.tile.map.collision.CollisionResult;
+import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionengine.graphic.engine.SourceResolutionProvider;
 import com.b3dgs.lionheart.InputDeviceControl;
 import com.b3dgs.lionheart.InputDeviceControlVoid;
 
 /**
  * Entity model implementation.
+ * <p>
+ * Collisions are forwarded to current state listeners, which are set on state enter.
+ * </p>
  */
 @FeatureInterface
-public final class EntityModel extends FeatureModel
+public final class EntityModel extends FeatureModel implements CollidableListener, TileCollidableListener
 {
     private static final double GRAVITY = 5.5;
     private static final double GRAVITY_MAX = 6.5;
+    private static final TileCollidableListener TILE_COLLIDABLE_NONE = (result, category) ->
+    {
+        // Nothing to do
+    };
 
     private final Force movement = new Force();
     private final Force jump = new Force();
     private final Camera camera;
     private final MapTile map;
     private final boolean hasGravity;
+    private final EntityCommands commands;
 
     private final SourceResolutionProvider source;
     private InputDeviceControl input = InputDeviceControlVoid.getInstance();
+    private CollidableListener currentCollide = CollidableListenerVoid.getInstance();
+    private TileCollidableListener currentTile = TILE_COLLIDABLE_NONE;
 
     @FeatureGet private Body body;
 
@@ -65,6 +82,7 @@ public final class EntityModel extends FeatureModel
         map = services.get(MapTile.class);
         source = services.get(SourceResolutionProvider.class);
         hasGravity = setup.hasNode("data");
+        commands = services.get(EntityCommands.class);
     }
 
     @Override
@@ -105,6 +123,40 @@ public final class EntityModel extends FeatureModel
         }
     }
 
+    /**
+     * Set the current collidable listener.
+     * 
+     * @param listener The listener to notify (if <code>null</code>, nothing is notified).
+     */
+    public void setListenerCollidable(CollidableListener listener)
+    {
+        if (listener == null)
+        {
+            currentCollide = CollidableListenerVoid.getInstance();
+        }
+        else
+        {
+            currentCollide = listener;
+        }
+    }
+
+    /**
+     * Set the current tile collidable listener.
+     * 
+     * @param listener The listener to notify (if <code>null</code>, nothing is notified).
+     */
+    public void setListenerTileCollidable(TileCollidableListener listener)
+    {
+        if (listener == null)
+        {
+            currentTile = TILE_COLLIDABLE_NONE;
+        }
+        else
+        {
+            currentTile = listener;
+        }
+    }
+
     /**
      * Get the camera reference.
      * 
@@ -155,6 +207,16 @@ public final class EntityModel extends FeatureModel
         return input;
     }
 
+    /**
+     * Get the side effects commands, to be used for side effects done during entity update.
+     * 
+     * @return The side effects commands.
+     */
+    public EntityCommands getCommands()
+    {
+        return commands;
+    }
+
     /**
      * Check if has gravity.
      * 
@@ -164,4 +226,16 @@ public final class EntityModel extends FeatureModel
     {
         return hasGravity;
     }
+
+    @Override
+    public void notifyCollided(Collidable collidable, Collision with, Collision by)
+    {
+        currentCollide.notifyCollided(collidable, with, by);
+    }
+
+    @Override
+    public void notifyTileCollided(CollisionResult result, CollisionCategory category)
+    {
+        currentTile.notifyTileCollided(result, category);
+    }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart.object;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.b3dgs.lionengine.game.feature.ComponentUpdater;
+import com.b3dgs.lionengine.game.feature.Featurable;
+import com.b3dgs.lionengine.game.feature.Handlables;
+import com.b3dgs.lionengine.game.feature.HandlerListener;
+
+/**
+ * Entities physics phase, run by handler after entities update.
+ * <p>
+ * Forces of all active entities are integrated in a first pass, then tile collisions are resolved in a second pass.
+ * All entities are moved before any collision is resolved, whatever their update order. A last pass updates state
+ * transitions, mirror and animation from the resolved location, before rendering.
+ * </p>
+ * <p>
+ * When parallel, entities update is done here instead of by handler, split across a {@link ForkJoinPool}. Side effects
+ * are deferred by {@link EntityCommands} and applied once all entities have been updated, before physics passes which
+ * stay sequential as moves are notified to collision grid.
+ * </p>
+ */
+public final class EntityPhysics implements ComponentUpdater, HandlerListener
+{
+    /** Minimum number of entities updated by a single task. */
+    private static final int THRESHOLD = 16;
+
+    /** Handled entities. */
+    private final List<EntityUpdater> updaters = new ArrayList<>();
+    /** Side effects commands. */
+    private final EntityCommands commands;
+    /** Parallel pool, <code>null</code> if sequential. */
+    private final ForkJoinPool pool;
+
+    /**
+     * Create physics.
+     * 
+     * @param commands The side effects commands.
+     * @param parallel <code>true</code> to update entities in parallel, <code>false</code> to let handler update them.
+     */
+    public EntityPhysics(EntityCommands commands, boolean parallel)
+    {
+        super();
+
+        this.commands = commands;
+        if (parallel)
+        {
+            pool = ForkJoinPool.commonPool();
+        }
+        else
+        {
+            pool = null;
+        }
+    }
+
+    @Override
+    public void update(double extrp, Handlables featurables)
+    {
+        final int n = updaters.size();
+        if (pool != null && n > 0)
+        {
+            commands.defer();
+            try
+            {
+                pool.invoke(new UpdateTask(updaters, 0, n, extrp));
+            }
+            finally
+            {
+                commands.applyDeferred();
+            }
+        }
+        for (int i = 0; i < n; i++)
+        {
+            updaters.get(i).updateForces(extrp);
+        }
+        for (int i = 0; i < n; i++)
+        {
+            updaters.get(i).updateTileCollisions(extrp);
+        }
+        for (int i = 0; i < n; i++)
+        {
+            updaters.get(i).updateMoved(extrp);
+        }
+    }
+
+    @Override
+    public void notifyHandlableAdded(Featurable featurable)
+    {
+        if (featurable.hasFeature(EntityUpdater.class))
+        {
+            final EntityUpdater updater = featurable.getFeature(EntityUpdater.class);
+            updater.setParallel(pool != null);
+            updaters.add(updater);
+        }
+    }
+
+    @Override
+    public void notifyHandlableRemoved(Featurable featurable)
+    {
+        if (featurable.hasFeature(EntityUpdater.class))
+        {
+            final EntityUpdater updater = featurable.getFeature(EntityUpdater.class);
+            updater.setParallel(false);
+            updaters.remove(updater);
+        }
+    }
+
+    /**
+     * Update entities by splitting range until {@link #THRESHOLD} is reached.
+     */
+    private static final class UpdateTask extends RecursiveAction
+    {
+        /** Serial UID. */
+        private static final long serialVersionUID = 1L;
+
+        /** Entities to update. */
+        private final List<EntityUpdater> updaters;
+        /** First index (inclusive). */
+        private final int start;
+        /** Last index (exclusive). */
+        private final int end;
+        /** Extrapolation value. */
+        private final double extrp;
+
+        /**
+         * Create task.
+         * 
+         * @param updaters The entities to update.
+         * @param start The first index (inclusive).
+         * @param end The last index (exclusive).
+         * @param extrp The extrapolation value.
+         */
+        UpdateTask(List<EntityUpdater> updaters, int start, int end, double extrp)
+        {
+            super();
+
+            this.updaters = updaters;
+            this.start = start;
+            this.end = end;
+            this.extrp = extrp;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (end - start > THRESHOLD)
+            {
+                final int middle = (start + end) >>> 1;
+                invokeAll(new UpdateTask(updaters, start, middle, extrp), new UpdateTask(updaters, middle, end, extrp));
+            }
+            else
+            {
+                for (int i = start; i < end; i++)
+                {
+                    updaters.get(i).updateLogic(extrp);
+                }
+            }
+        }
+    }
+}
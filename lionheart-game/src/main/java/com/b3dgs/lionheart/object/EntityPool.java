@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart.object;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.b3dgs.lionengine.Check;
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.game.Feature;
+import com.b3dgs.lionengine.game.feature.Factory;
+import com.b3dgs.lionengine.game.feature.Featurable;
+import com.b3dgs.lionengine.game.feature.Handler;
+import com.b3dgs.lionengine.game.feature.HandlerListener;
+import com.b3dgs.lionengine.game.feature.Identifiable;
+import com.b3dgs.lionengine.game.feature.Recyclable;
+import com.b3dgs.lionengine.game.feature.Transformable;
+
+/**
+ * Entity pool, by media.
+ * <p>
+ * Only entities declaring {@link PoolConfig} are pooled. Declared prewarm instances are created on first use of media,
+ * which can be forced during level loading with {@link #prewarm(Media)}.
+ * </p>
+ * <p>
+ * Instances removed from handler are kept and reused by next spawn. Before reuse, their {@link Identifiable} is
+ * recycled first, which acquires a new id and clears its destroyed state, then all their other {@link Recyclable}
+ * features are recycled.
+ * Instances whose identifiable is not recyclable are not kept, as they could not be added again.
+ * </p>
+ */
+public final class EntityPool implements HandlerListener
+{
+    /** Available instances by pooled media. */
+    private final Map<Media, Deque<Featurable>> pools = new HashMap<>();
+    /** Pooled instances removed from handler, to recycle before reuse. */
+    private final Set<Featurable> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** Medias with config already read. */
+    private final Set<Media> checked = new HashSet<>();
+    /** Factory reference. */
+    private final Factory factory;
+    /** Handler reference. */
+    private final Handler handler;
+
+    /**
+     * Create pool.
+     * 
+     * @param factory The factory reference.
+     * @param handler The handler reference.
+     */
+    public EntityPool(Factory factory, Handler handler)
+    {
+        super();
+
+        Check.notNull(factory);
+        Check.notNull(handler);
+
+        this.factory = factory;
+        this.handler = handler;
+    }
+
+    /**
+     * Read pool config of media and create its prewarm instances, if not already done.
+     * 
+     * @param media The entity media (can be <code>null</code>, ignored).
+     */
+    public synchronized void prewarm(Media media)
+    {
+        if (media != null && checked.add(media))
+        {
+            final PoolConfig config = PoolConfig.imports(factory.getSetup(media));
+            if (config.isPooled())
+            {
+                final Deque<Featurable> pool = new ArrayDeque<>();
+                final int n = config.getPrewarm();
+                for (int i = 0; i < n; i++)
+                {
+                    pool.push(factory.create(media));
+                }
+                pools.put(media, pool);
+            }
+        }
+    }
+
+    /**
+     * Spawn entity at location, reusing a pooled instance if available.
+     * 
+     * @param media The entity media.
+     * @param location The spawn location.
+     * @return The spawned entity.
+     */
+    public synchronized Featurable spawn(Media media, Transformable location)
+    {
+        prewarm(media);
+
+        final Deque<Featurable> pool = pools.get(media);
+        final Featurable featurable;
+        if (pool == null || pool.isEmpty())
+        {
+            featurable = factory.create(media);
+        }
+        else
+        {
+            featurable = pool.pop();
+            if (removed.remove(featurable))
+            {
+                recycle(featurable);
+            }
+        }
+        featurable.getFeature(Transformable.class).teleport(location.getX(), location.getY());
+        handler.add(featurable);
+
+        return featurable;
+    }
+
+    /**
+     * Recycle identifiable first to get a new id, then all other recyclable features.
+     * 
+     * @param featurable The featurable to recycle.
+     */
+    private static void recycle(Featurable featurable)
+    {
+        final Identifiable identifiable = featurable.getFeature(Identifiable.class);
+        ((Recyclable) identifiable).recycle();
+
+        for (final Feature feature : featurable.getFeatures())
+        {
+            if (feature != identifiable && feature instanceof Recyclable)
+            {
+                ((Recyclable) feature).recycle();
+            }
+        }
+    }
+
+    @Override
+    public void notifyHandlableAdded(Featurable featurable)
+    {
+        // Nothing to do
+    }
+
+    @Override
+    public synchronized void notifyHandlableRemoved(Featurable featurable)
+    {
+        final Deque<Featurable> pool = pools.get(featurable.getMedia());
+        if (pool != null && featurable.getFeature(Identifiable.class) instanceof Recyclable)
+        {
+            removed.add(featurable);
+            pool.push(featurable);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart.object;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.b3dgs.lionengine.Check;
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.game.AnimationConfig;
+import com.b3dgs.lionengine.game.Configurer;
+import com.b3dgs.lionengine.graphic.ImageBuffer;
+import com.b3dgs.lionengine.graphic.drawable.Drawable;
+import com.b3dgs.lionengine.graphic.drawable.Sprite;
+
+/**
+ * Entity data shared by all instances of a same type, read once per media.
+ * <p>
+ * Returned data must not be modified. Sprites are created per instance on a shared surface. Data are kept until
+ * {@link #clear()}.
+ * </p>
+ */
+public final class EntityTemplates
+{
+    /** Configurations per config type and entity type. */
+    private static final Map<Class<?>, Map<Media, Object>> CONFIGS = new ConcurrentHashMap<>();
+    /** Loaded surfaces per image. */
+    private static final Map<Media, ImageBuffer> SURFACES = new ConcurrentHashMap<>();
+
+    /**
+     * Get the config of configurer, read once per config type and configurer media.
+     * 
+     * @param <T> The config type.
+     * @param type The config type (must not be <code>null</code>).
+     * @param configurer The configurer reference (must not be <code>null</code>).
+     * @param reader The config reader, called on first get (must not be <code>null</code>).
+     * @return The shared config.
+     * @throws LionEngineException If unable to read config.
+     */
+    public static <T> T getConfig(Class<T> type, Configurer configurer, Function<Configurer, T> reader)
+    {
+        Check.notNull(type);
+        Check.notNull(configurer);
+        Check.notNull(reader);
+
+        final Map<Media, Object> configs = CONFIGS.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+        return type.cast(configs.computeIfAbsent(configurer.getMedia(), media -> reader.apply(configurer)));
+    }
+
+    /**
+     * Get the animations of configurer, read once per configurer media.
+     * 
+     * @param configurer The configurer reference (must not be <code>null</code>).
+     * @return The shared animations.
+     * @throws LionEngineException If unable to read animations.
+     */
+    public static AnimationConfig getAnimations(Configurer configurer)
+    {
+        return getConfig(AnimationConfig.class, configurer, AnimationConfig::imports);
+    }
+
+    /**
+     * Get the prepared surface of image, loaded once per media.
+     * 
+     * @param media The image media (must not be <code>null</code>).
+     * @return The shared surface.
+     * @throws LionEngineException If unable to load image.
+     */
+    public static ImageBuffer getSurface(Media media)
+    {
+        Check.notNull(media);
+
+        return SURFACES.computeIfAbsent(media, EntityTemplates::load);
+    }
+
+    /**
+     * Release all shared data, once entities using them have been removed. Surfaces are not disposed, as they may still
+     * be referenced by sprites.
+     */
+    public static void clear()
+    {
+        CONFIGS.clear();
+        SURFACES.clear();
+    }
+
+    /**
+     * Load and prepare image surface.
+     * 
+     * @param media The image media.
+     * @return The loaded surface.
+     * @throws LionEngineException If unable to load image.
+     */
+    private static ImageBuffer load(Media media)
+    {
+        final Sprite sprite = Drawable.loadSprite(media);
+        sprite.load();
+        sprite.prepare();
+        return sprite.getSurface();
+    }
+
+    /**
+     * Private constructor.
+     */
+    private EntityTemplates()
+    {
+        throw new LionEngineException(LionEngineException.ERROR_PRIVATE_CONSTRUCTOR);
+    }
+}
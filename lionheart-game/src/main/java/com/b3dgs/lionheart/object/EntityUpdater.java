@@ -25,22 +25,37 @@ import com.b3dgs.lionengine.game.Feature;
 import com.b3dgs.lionengine.game.FeatureProvider;
 import com.b3dgs.lionengine.game.Force;
 import com.b3dgs.lionengine.game.feature.Animatable;
+import com.b3dgs.lionengine.game.feature.Camera;
 import com.b3dgs.lionengine.game.feature.FeatureGet;
 import com.b3dgs.lionengine.game.feature.FeatureModel;
 import com.b3dgs.lionengine.game.feature.Identifiable;
 import com.b3dgs.lionengine.game.feature.Mirrorable;
 import com.b3dgs.lionengine.game.feature.Refreshable;
 import com.b3dgs.lionengine.game.feature.Services;
+import com.b3dgs.lionengine.game.feature.Setup;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.body.Body;
 import com.b3dgs.lionengine.game.feature.rasterable.Rasterable;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidable;
+import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.object.state.StateHurt;
 import com.b3dgs.lionheart.object.state.StateSlide;
 
 /**
  * Entity updating implementation.
+ * <p>
+ * Entities outside the activity area around camera are sleeping and not updated at all, unless sleep is disabled by
+ * {@link ActivityConfig}. They resume from the same state once back in the area.
+ * </p>
+ * <p>
+ * Forces and tile collisions are updated by {@link EntityPhysics} for all entities after their update. State
+ * transitions, mirror and animation are then updated from the moved location, so rendering matches current frame.
+ * </p>
+ * <p>
+ * When parallel, update is done by {@link EntityPhysics} instead of handler. Destruction is always queued to
+ * {@link EntityCommands}.
+ * </p>
  */
 final class EntityUpdater extends FeatureModel implements Refreshable
 {
@@ -49,8 +64,13 @@ final class EntityUpdater extends FeatureModel implements Refreshable
     private final List<Routine> routines = new ArrayList<>();
     private final Force movement;
     private final Force jump;
+    private final Camera camera;
+    private final EntityCommands commands;
+    private final boolean sleep;
 
     private int routinesCount;
+    private boolean active;
+    private boolean parallel;
 
     @FeatureGet private Identifiable identifiable;
     @FeatureGet private Mirrorable mirrorable;
@@ -65,14 +85,50 @@ final class EntityUpdater extends FeatureModel implements Refreshable
      * Create updater.
      * 
      * @param services The services reference.
+     * @param setup The setup reference.
      * @param model The model reference.
      */
-    public EntityUpdater(Services services, EntityModel model)
+    public EntityUpdater(Services services, Setup setup, EntityModel model)
     {
         super();
 
         movement = model.getMovement();
         jump = model.getJump();
+        camera = model.getCamera();
+        commands = model.getCommands();
+        sleep = EntityTemplates.getConfig(ActivityConfig.class, setup, ActivityConfig::imports).hasSleep();
+    }
+
+    /**
+     * Set parallel flag.
+     * 
+     * @param parallel <code>true</code> if updated by {@link EntityPhysics}, <code>false</code> if updated by handler.
+     */
+    void setParallel(boolean parallel)
+    {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Check if entity is inside activity area, which is {@link Constant#ACTIVITY_SCREENS} around camera.
+     * 
+     * @return <code>true</code> if active, <code>false</code> if sleeping.
+     */
+    private boolean isActive()
+    {
+        if (!sleep)
+        {
+            return true;
+        }
+        final double marginX = camera.getWidth() * Constant.ACTIVITY_SCREENS;
+        final double marginY = camera.getHeight() * Constant.ACTIVITY_SCREENS;
+        final double x = transformable.getX();
+        final double y = transformable.getY();
+
+        return x > camera.getX() - marginX
+               && x < camera.getX() + camera.getWidth() + marginX
+               && y > camera.getY() - marginY
+               && y < camera.getY() + camera.getHeight() + marginY;
     }
 
     /**
@@ -111,27 +167,80 @@ final class EntityUpdater extends FeatureModel implements Refreshable
         routinesCount = routines.size();
     }
 
-    @Override
-    public void update(double extrp)
+    /**
+     * Update forces and move if active.
+     * 
+     * @param extrp The extrapolation value.
+     */
+    void updateForces(double extrp)
+    {
+        if (active)
+        {
+            jump.update(extrp);
+            movement.update(extrp);
+            transformable.moveLocation(extrp, body, movement, jump);
+        }
+    }
+
+    /**
+     * Update tile collisions if active.
+     * 
+     * @param extrp The extrapolation value.
+     */
+    void updateTileCollisions(double extrp)
     {
-        for (int i = 0; i < routinesCount; i++)
+        if (active)
         {
-            routines.get(i).update(extrp);
+            tileCollidable.update(extrp);
         }
-        state.update(extrp);
-        jump.update(extrp);
-        movement.update(extrp);
-        transformable.moveLocation(extrp, body, movement, jump);
-        tileCollidable.update(extrp);
-        state.postUpdate();
-
-        updateMirror(extrp);
-        animatable.update(extrp);
-        rasterable.update(extrp);
-
-        if (transformable.getY() < DESTROY_Y)
+    }
+
+    /**
+     * Update state transitions, mirror and animation once moved, if active.
+     * 
+     * @param extrp The extrapolation value.
+     */
+    void updateMoved(double extrp)
+    {
+        if (active)
+        {
+            state.postUpdate();
+
+            updateMirror(extrp);
+            animatable.update(extrp);
+            rasterable.update(extrp);
+
+            if (transformable.getY() < DESTROY_Y)
+            {
+                commands.destroy(identifiable);
+            }
+        }
+    }
+
+    /**
+     * Update entity logic if active (routines and state).
+     * 
+     * @param extrp The extrapolation value.
+     */
+    void updateLogic(double extrp)
+    {
+        active = isActive();
+        if (active)
+        {
+            for (int i = 0; i < routinesCount; i++)
+            {
+                routines.get(i).update(extrp);
+            }
+            state.update(extrp);
+        }
+    }
+
+    @Override
+    public void update(double extrp)
+    {
+        if (!parallel)
         {
-            identifiable.destroy();
+            updateLogic(extrp);
         }
     }
 }
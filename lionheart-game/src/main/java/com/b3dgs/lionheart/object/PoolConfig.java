@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart.object;
+
+import com.b3dgs.lionengine.Check;
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.game.Configurer;
+
+/**
+ * Pool configuration.
+ */
+public final class PoolConfig
+{
+    /** Config node name. */
+    private static final String NODE_POOL = "pool";
+    /** Prewarm attribute name. */
+    private static final String ATT_PREWARM = "prewarm";
+
+    /**
+     * Imports from configurer.
+     * 
+     * @param configurer The configurer reference (must not be <code>null</code>).
+     * @return The data.
+     * @throws LionEngineException If unable to read node.
+     */
+    public static PoolConfig imports(Configurer configurer)
+    {
+        Check.notNull(configurer);
+
+        if (configurer.hasNode(NODE_POOL))
+        {
+            final int prewarm = configurer.getIntegerDefault(0, ATT_PREWARM, NODE_POOL);
+            Check.superiorOrEqual(prewarm, 0);
+
+            return new PoolConfig(true, prewarm);
+        }
+        return new PoolConfig(false, 0);
+    }
+
+    /** Pooled flag. */
+    private final boolean pooled;
+    /** Number of instances created on load. */
+    private final int prewarm;
+
+    /**
+     * Create config.
+     * 
+     * @param pooled The pooled flag.
+     * @param prewarm The number of instances created on load.
+     */
+    private PoolConfig(boolean pooled, int prewarm)
+    {
+        super();
+
+        this.pooled = pooled;
+        this.prewarm = prewarm;
+    }
+
+    /**
+     * Check if pooled.
+     * 
+     * @return <code>true</code> if removed instances are recycled and reused, <code>false</code> else.
+     */
+    public boolean isPooled()
+    {
+        return pooled;
+    }
+
+    /**
+     * Get the number of instances created on load.
+     * 
+     * @return The prewarm count.
+     */
+    public int getPrewarm()
+    {
+        return prewarm;
+    }
+}
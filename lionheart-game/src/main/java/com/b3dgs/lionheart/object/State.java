@@ -25,13 +25,19 @@ import com.b3dgs.lionengine.game.feature.Mirrorable;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.body.Body;
 import com.b3dgs.lionengine.game.feature.collidable.Collidable;
+import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.state.StateAbstract;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidable;
+import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionheart.InputDeviceControl;
 import com.b3dgs.lionheart.InputDeviceControlDelegate;
 
 /**
  * Base state with animation implementation.
+ * <p>
+ * State collision listeners are not registered to features, but notified by {@link EntityModel} while state is the
+ * current one.
+ * </p>
  */
 public abstract class State extends StateAbstract
 {
@@ -57,6 +63,10 @@ public abstract class State extends StateAbstract
     protected final Force jump;
     /** Input device control. */
     protected final InputDeviceControl control;
+    /** Collidable listener while current state (<code>null</code> if none). */
+    private CollidableListener listenerCollidable;
+    /** Tile collidable listener while current state (<code>null</code> if none). */
+    private TileCollidableListener listenerTileCollidable;
 
     /**
      * Create the state.
@@ -81,6 +91,26 @@ public abstract class State extends StateAbstract
         control = new InputDeviceControlDelegate(model::getInput);
     }
 
+    /**
+     * Set the collidable listener, notified while state is the current one.
+     * 
+     * @param listener The listener reference.
+     */
+    protected final void setListenerCollidable(CollidableListener listener)
+    {
+        listenerCollidable = listener;
+    }
+
+    /**
+     * Set the tile collidable listener, notified while state is the current one.
+     * 
+     * @param listener The listener reference.
+     */
+    protected final void setListenerTileCollidable(TileCollidableListener listener)
+    {
+        listenerTileCollidable = listener;
+    }
+
     /**
      * Check if is anim state.
      * 
@@ -206,6 +236,8 @@ public abstract class State extends StateAbstract
     public void enter()
     {
         animatable.play(animation);
+        model.setListenerCollidable(listenerCollidable);
+        model.setListenerTileCollidable(listenerTileCollidable);
     }
 
     /**
@@ -27,6 +27,7 @@ import com.b3dgs.lionengine.game.feature.FeatureModel;
 import com.b3dgs.lionengine.game.feature.Identifiable;
 import com.b3dgs.lionengine.game.feature.Recyclable;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
+import com.b3dgs.lionheart.object.EntityModel;
 import com.b3dgs.lionheart.object.state.StateIdle;
 
 /**
@@ -42,6 +43,7 @@ public final class Effect extends FeatureModel implements Recyclable
     @FeatureGet private Identifiable identifiable;
     @FeatureGet private Animatable animatable;
     @FeatureGet private StateHandler stateHandler;
+    @FeatureGet private EntityModel model;
 
     @Override
     public void prepare(FeatureProvider provider)
@@ -52,7 +54,7 @@ public final class Effect extends FeatureModel implements Recyclable
         {
             if (AnimState.FINISHED == state)
             {
-                identifiable.destroy();
+                model.getCommands().destroy(identifiable);
             }
         });
     }
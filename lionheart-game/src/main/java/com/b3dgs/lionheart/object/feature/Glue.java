@@ -54,6 +54,7 @@ public final class Glue extends FeatureModel implements Routine, Recyclable, Col
 
     @FeatureGet private Transformable reference;
     @FeatureGet private Collidable collidable;
+    @FeatureGet private EntityModel model;
 
     /**
      * Add glue listener.
@@ -111,6 +112,37 @@ public final class Glue extends FeatureModel implements Routine, Recyclable, Col
         started = false;
     }
 
+    /**
+     * Move glued entity with reference.
+     * 
+     * @param extrp The extrapolation value.
+     * @param glued The glued entity.
+     * @param moveX The reference horizontal move.
+     * @param y The glued vertical location.
+     */
+    private void updateGlued(double extrp, Transformable glued, double moveX, double y)
+    {
+        glued.moveLocationX(extrp, moveX);
+        if (Double.compare(glued.getFeature(EntityModel.class).getInput().getVerticalDirection(), 0.0) <= 0)
+        {
+            glued.getFeature(Body.class).resetGravity();
+            glued.teleportY(y);
+        }
+    }
+
+    /**
+     * Make released entity fall if not moving vertically.
+     * 
+     * @param released The released entity.
+     */
+    private void updateReleased(Transformable released)
+    {
+        if (Double.compare(released.getY(), released.getOldY()) == 0)
+        {
+            released.getFeature(StateHandler.class).changeState(StateFall.class);
+        }
+    }
+
     @Override
     public void update(double extrp)
     {
@@ -125,19 +157,15 @@ public final class Glue extends FeatureModel implements Routine, Recyclable, Col
         }
         else if (glue && collide)
         {
-            other.moveLocationX(extrp, reference.getX() - reference.getOldX());
-            if (Double.compare(other.getFeature(EntityModel.class).getInput().getVerticalDirection(), 0.0) <= 0)
-            {
-                other.getFeature(Body.class).resetGravity();
-                other.teleportY(reference.getY() + offsetY);
-            }
+            final Transformable glued = other;
+            final double moveX = reference.getX() - reference.getOldX();
+            final double y = reference.getY() + offsetY;
+            model.getCommands().execute(() -> updateGlued(extrp, glued, moveX, y));
         }
         if (!collidable.isEnabled() && other != null)
         {
-            if (Double.compare(other.getY(), other.getOldY()) == 0)
-            {
-                other.getFeature(StateHandler.class).changeState(StateFall.class);
-            }
+            final Transformable released = other;
+            model.getCommands().execute(() -> updateReleased(released));
         }
 
         collide = false;
@@ -32,7 +32,6 @@ import com.b3dgs.lionengine.game.feature.Identifiable;
 import com.b3dgs.lionengine.game.feature.Mirrorable;
 import com.b3dgs.lionengine.game.feature.Recyclable;
 import com.b3dgs.lionengine.game.feature.Services;
-import com.b3dgs.lionengine.game.feature.Spawner;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.collidable.Collidable;
 import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
@@ -45,8 +44,11 @@ import com.b3dgs.lionengine.game.feature.tile.map.collision.CollisionResult;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.Sfx;
+import com.b3dgs.lionheart.object.EntityCommands;
 import com.b3dgs.lionheart.object.EntityModel;
+import com.b3dgs.lionheart.object.EntityPool;
 import com.b3dgs.lionheart.object.EntityRenderer;
+import com.b3dgs.lionheart.object.EntityTemplates;
 import com.b3dgs.lionheart.object.Routine;
 import com.b3dgs.lionheart.object.state.StateDie;
 import com.b3dgs.lionheart.object.state.StateHurt;
@@ -68,7 +70,7 @@ public final class Hurtable extends FeatureModel
     private final Force hurtForce = new Force();
     private final Tick recover = new Tick();
     private final Tick flicker = new Tick();
-    private final Spawner spawner;
+    private final EntityCommands commands;
     private final Media effect;
 
     private CollidableListener currentCollide;
@@ -93,9 +95,10 @@ public final class Hurtable extends FeatureModel
     {
         super();
 
-        final HurtableConfig config = HurtableConfig.imports(setup);
+        final HurtableConfig config = EntityTemplates.getConfig(HurtableConfig.class, setup, HurtableConfig::imports);
         effect = config.getEffect();
-        spawner = services.get(Spawner.class);
+        commands = services.get(EntityCommands.class);
+        services.get(EntityPool.class).prewarm(effect);
 
         hurtForce.setDestination(0.0, 0.0);
         hurtForce.setSensibility(0.1);
@@ -146,13 +149,13 @@ public final class Hurtable extends FeatureModel
     {
         if (stats.applyDamages(collidable.getFeature(Stats.class).getDamages()))
         {
-            spawner.spawn(effect, transformable);
-            identifiable.destroy();
+            commands.spawn(effect, transformable);
+            commands.destroy(identifiable);
             currentCollide = CollidableListenerVoid.getInstance();
         }
         else
         {
-            Sfx.MONSTER_HURT.play();
+            commands.play(Sfx.MONSTER_HURT);
         }
         if (model.getMovement().isDecreasingHorizontal())
         {
@@ -173,12 +176,12 @@ public final class Hurtable extends FeatureModel
     {
         if (stats.applyDamages(collidable.getFeature(Stats.class).getDamages()))
         {
-            Sfx.VALDYN_DIE.play();
+            commands.play(Sfx.VALDYN_DIE);
             stateHandler.changeState(StateDie.class);
         }
         else
         {
-            Sfx.VALDYN_HURT.play();
+            commands.play(Sfx.VALDYN_HURT);
             stateHandler.changeState(StateHurt.class);
             hurtJump();
         }
@@ -201,12 +204,12 @@ public final class Hurtable extends FeatureModel
             model.getMovement().setDestination(0.0, 0.0);
             if (stats.applyDamages(SPIKE_DAMAGES))
             {
-                Sfx.VALDYN_DIE.play();
+                commands.play(Sfx.VALDYN_DIE);
                 stateHandler.changeState(StateDie.class);
             }
             else
             {
-                Sfx.VALDYN_HURT.play();
+                commands.play(Sfx.VALDYN_HURT);
                 stateHandler.changeState(StateHurt.class);
                 hurtJump();
             }
@@ -37,6 +37,7 @@ import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.InputDeviceControlVoid;
 import com.b3dgs.lionheart.object.Entity;
 import com.b3dgs.lionheart.object.EntityModel;
+import com.b3dgs.lionheart.object.EntityTemplates;
 import com.b3dgs.lionheart.object.Routine;
 import com.b3dgs.lionheart.object.state.StatePatrol;
 import com.b3dgs.lionheart.object.state.StateTurn;
@@ -71,13 +72,13 @@ public final class Patrol extends FeatureModel implements Routine
     {
         super();
 
-        final PatrolConfig config = PatrolConfig.imports(setup);
+        final PatrolConfig config = EntityTemplates.getConfig(PatrolConfig.class, setup, PatrolConfig::imports);
         sh = config.getSh();
         sv = config.getSv();
         turn = config.hasTurn();
         mirror = config.hasMirror();
 
-        final AnimationConfig anim = AnimationConfig.imports(setup);
+        final AnimationConfig anim = EntityTemplates.getAnimations(setup);
         if (turn)
         {
             checker = extrp ->
@@ -17,13 +17,13 @@
  */
 package com.b3dgs.lionheart.object.feature;
 
-import com.b3dgs.lionengine.UtilMath;
 import com.b3dgs.lionengine.game.FeatureProvider;
 import com.b3dgs.lionengine.game.feature.FeatureGet;
 import com.b3dgs.lionengine.game.feature.FeatureInterface;
 import com.b3dgs.lionengine.game.feature.FeatureModel;
 import com.b3dgs.lionengine.game.feature.Recyclable;
 import com.b3dgs.lionengine.game.feature.Transformable;
+import com.b3dgs.lionheart.Trigo;
 import com.b3dgs.lionheart.object.Routine;
 import com.b3dgs.lionheart.object.feature.Glue.GlueListener;
 
@@ -54,7 +54,7 @@ public final class Sheet extends FeatureModel implements Routine, Recyclable
             @Override
             public void notifyStart(Transformable transformable)
             {
-                glue.setTransformY(() -> UtilMath.sin(curve) * CURVE_FORCE);
+                glue.setTransformY(() -> Trigo.sin(curve) * CURVE_FORCE);
                 start = true;
                 done = false;
                 glue.setGlue(true);
@@ -17,6 +17,9 @@
  */
 package com.b3dgs.lionheart.object.feature;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.b3dgs.lionengine.game.Alterable;
 import com.b3dgs.lionengine.game.Damages;
 import com.b3dgs.lionengine.game.feature.FeatureInterface;
@@ -24,13 +27,18 @@ import com.b3dgs.lionengine.game.feature.FeatureModel;
 import com.b3dgs.lionengine.game.feature.Recyclable;
 import com.b3dgs.lionengine.game.feature.rasterable.SetupSurfaceRastered;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.object.EntityTemplates;
 
 /**
  * Stats feature implementation.
+ * <p>
+ * Listeners are notified on each value change.
+ * </p>
  */
 @FeatureInterface
 public final class Stats extends FeatureModel implements Recyclable
 {
+    private final List<StatsListener> listeners = new ArrayList<>();
     private final Alterable health = new Alterable(Constant.STATS_MAX_HEALTH);
     private final Alterable talisment = new Alterable(Constant.STATS_MAX_TALISMENT);
     private final Alterable life = new Alterable(Constant.STATS_MAX_LIFE);
@@ -46,7 +54,27 @@ public final class Stats extends FeatureModel implements Recyclable
     {
         super();
 
-        config = StatsConfig.imports(setup);
+        config = EntityTemplates.getConfig(StatsConfig.class, setup, StatsConfig::imports);
+    }
+
+    /**
+     * Add a listener.
+     * 
+     * @param listener The listener to add.
+     */
+    public void addListener(StatsListener listener)
+    {
+        listeners.add(listener);
+    }
+
+    /**
+     * Remove a listener.
+     * 
+     * @param listener The listener to remove.
+     */
+    public void removeListener(StatsListener listener)
+    {
+        listeners.remove(listener);
     }
 
     /**
@@ -56,9 +84,17 @@ public final class Stats extends FeatureModel implements Recyclable
      */
     public void apply(TakeableConfig config)
     {
+        final int oldHealth = health.getCurrent();
+        final int oldTalisment = talisment.getCurrent();
+        final int oldLife = life.getCurrent();
+
         health.increase(config.getHealth());
         talisment.increase(config.getTalisment());
         life.increase(config.getLife());
+
+        notifyChanged(StatsType.HEALTH, oldHealth, health.getCurrent());
+        notifyChanged(StatsType.TALISMENT, oldTalisment, talisment.getCurrent());
+        notifyChanged(StatsType.LIFE, oldLife, life.getCurrent());
     }
 
     /**
@@ -69,7 +105,10 @@ public final class Stats extends FeatureModel implements Recyclable
      */
     public boolean applyDamages(int damages)
     {
+        final int old = health.getCurrent();
         health.decrease(damages);
+        notifyChanged(StatsType.HEALTH, old, health.getCurrent());
+
         return health.isEmpty();
     }
 
@@ -78,7 +117,9 @@ public final class Stats extends FeatureModel implements Recyclable
      */
     public void decreaseLife()
     {
+        final int old = life.getCurrent();
         life.decrease(1);
+        notifyChanged(StatsType.LIFE, old, life.getCurrent());
     }
 
     /**
@@ -86,7 +127,9 @@ public final class Stats extends FeatureModel implements Recyclable
      */
     public void fillHealth()
     {
+        final int old = health.getCurrent();
         health.fill();
+        notifyChanged(StatsType.HEALTH, old, health.getCurrent());
     }
 
     /**
@@ -149,11 +192,68 @@ public final class Stats extends FeatureModel implements Recyclable
         return damages.getRandom();
     }
 
+    /**
+     * Notify listeners if value changed.
+     * 
+     * @param type The changed stats type.
+     * @param old The old value.
+     * @param current The current value.
+     */
+    private void notifyChanged(StatsType type, int old, int current)
+    {
+        if (old != current)
+        {
+            final int n = listeners.size();
+            for (int i = 0; i < n; i++)
+            {
+                listeners.get(i).notifyStatsChanged(type, old, current);
+            }
+        }
+    }
+
     @Override
     public void recycle()
     {
+        final int oldHealthMax = health.getMax();
+        final int oldHealth = health.getCurrent();
+        final int oldLife = life.getCurrent();
+
         health.setMax(config.getHealth());
         health.fill();
         life.set(config.getLife());
+
+        notifyChanged(StatsType.HEALTH_MAX, oldHealthMax, health.getMax());
+        notifyChanged(StatsType.HEALTH, oldHealth, health.getCurrent());
+        notifyChanged(StatsType.LIFE, oldLife, life.getCurrent());
+    }
+
+    /**
+     * Stats value types.
+     */
+    public enum StatsType
+    {
+        /** Current health. */
+        HEALTH,
+        /** Max health. */
+        HEALTH_MAX,
+        /** Current talisment. */
+        TALISMENT,
+        /** Current life. */
+        LIFE;
+    }
+
+    /**
+     * Notify stats changes.
+     */
+    public interface StatsListener
+    {
+        /**
+         * Notify when a stats value changed.
+         * 
+         * @param type The changed stats type.
+         * @param old The old value.
+         * @param current The current value.
+         */
+        void notifyStatsChanged(StatsType type, int old, int current);
     }
 }
@@ -19,6 +19,7 @@ package com.b3dgs.lionheart.object.feature;
 
 import com.b3dgs.lionengine.AnimState;
 import com.b3dgs.lionengine.Animation;
+import com.b3dgs.lionengine.Media;
 import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.Viewer;
 import com.b3dgs.lionengine.game.AnimationConfig;
@@ -38,6 +39,8 @@ import com.b3dgs.lionengine.graphic.drawable.SpriteAnimated;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.Sfx;
 import com.b3dgs.lionheart.object.Entity;
+import com.b3dgs.lionheart.object.EntityModel;
+import com.b3dgs.lionheart.object.EntityTemplates;
 import com.b3dgs.lionheart.object.Routine;
 
 /**
@@ -57,6 +60,7 @@ public final class SwordShade extends FeatureModel implements Routine
     @FeatureGet private Transformable transformable;
     @FeatureGet private StateHandler stateHandler;
     @FeatureGet private Animatable animatable;
+    @FeatureGet private EntityModel model;
 
     /**
      * Create sword shade.
@@ -70,11 +74,10 @@ public final class SwordShade extends FeatureModel implements Routine
 
         viewer = services.get(Viewer.class);
 
-        shade = Drawable.loadSpriteAnimated(Medias.create(setup.getMedia().getParentPath(), "shade1.png"), 7, 7);
-        shade.load();
-        shade.prepare();
+        final Media media = Medias.create(setup.getMedia().getParentPath(), "shade1.png");
+        shade = Drawable.loadSpriteAnimated(EntityTemplates.getSurface(media), 7, 7);
         shade.setFrameOffsets(shade.getTileWidth() / 2, -shade.getTileHeight());
-        config = AnimationConfig.imports(setup);
+        config = EntityTemplates.getAnimations(setup);
     }
 
     @Override
@@ -99,7 +102,7 @@ public final class SwordShade extends FeatureModel implements Routine
     {
         if (!played && animatable.getFrameAnim() > 1)
         {
-            Sfx.VALDYN_ATTACK.play();
+            model.getCommands().play(Sfx.VALDYN_ATTACK);
             shade.play(anim);
             played = true;
         }
@@ -23,7 +23,6 @@ import com.b3dgs.lionengine.game.feature.FeatureModel;
 import com.b3dgs.lionengine.game.feature.Identifiable;
 import com.b3dgs.lionengine.game.feature.Recyclable;
 import com.b3dgs.lionengine.game.feature.Services;
-import com.b3dgs.lionengine.game.feature.Spawner;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.collidable.Collidable;
 import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
@@ -31,6 +30,9 @@ import com.b3dgs.lionengine.game.feature.collidable.CollidableListenerVoid;
 import com.b3dgs.lionengine.game.feature.collidable.Collision;
 import com.b3dgs.lionengine.game.feature.rasterable.SetupSurfaceRastered;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.object.EntityCommands;
+import com.b3dgs.lionheart.object.EntityPool;
+import com.b3dgs.lionheart.object.EntityTemplates;
 
 /**
  * Takeable feature implementation.
@@ -61,17 +63,18 @@ public final class Takeable extends FeatureModel implements CollidableListener,
     {
         super();
 
-        final Spawner spawner = services.get(Spawner.class);
-        final TakeableConfig config = TakeableConfig.imports(setup);
+        final EntityCommands commands = services.get(EntityCommands.class);
+        final TakeableConfig config = EntityTemplates.getConfig(TakeableConfig.class, setup, TakeableConfig::imports);
+        services.get(EntityPool.class).prewarm(config.getEffect());
 
         take = (collidable, with, by) ->
         {
             if (by.getName().startsWith(Constant.ANIM_PREFIX_BODY))
             {
-                config.getSfx().play();
+                commands.play(config.getSfx());
                 collidable.getFeature(Stats.class).apply(config);
-                spawner.spawn(config.getEffect(), transformable);
-                identifiable.destroy();
+                commands.spawn(config.getEffect(), transformable);
+                commands.destroy(identifiable);
                 current = CollidableListenerVoid.getInstance();
             }
         };
@@ -20,7 +20,6 @@ package com.b3dgs.lionheart.object.feature;
 import com.b3dgs.lionengine.AnimState;
 import com.b3dgs.lionengine.Tick;
 import com.b3dgs.lionengine.Updatable;
-import com.b3dgs.lionengine.UtilMath;
 import com.b3dgs.lionengine.game.FeatureProvider;
 import com.b3dgs.lionengine.game.feature.Animatable;
 import com.b3dgs.lionengine.game.feature.FeatureGet;
@@ -31,6 +30,7 @@ import com.b3dgs.lionengine.game.feature.collidable.Collidable;
 import com.b3dgs.lionengine.game.feature.state.State;
 import com.b3dgs.lionengine.game.feature.state.StateHandler;
 import com.b3dgs.lionheart.Constant;
+import com.b3dgs.lionheart.Trigo;
 import com.b3dgs.lionheart.object.Entity;
 import com.b3dgs.lionheart.object.Routine;
 import com.b3dgs.lionheart.object.state.StateTurn;
@@ -130,7 +130,7 @@ public final class Turning extends FeatureModel implements Routine, Recyclable
      */
     private double computeCurve()
     {
-        return UtilMath.sin(curve) * CURVE_FORCE;
+        return Trigo.sin(curve) * CURVE_FORCE;
     }
 
     /**
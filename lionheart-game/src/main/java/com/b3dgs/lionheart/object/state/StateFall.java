@@ -17,14 +17,10 @@
  */
 package com.b3dgs.lionheart.object.state;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-
 import com.b3dgs.lionengine.Animation;
 import com.b3dgs.lionengine.Mirror;
 import com.b3dgs.lionengine.game.DirectionNone;
-import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.Axis;
-import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.object.EntityModel;
 import com.b3dgs.lionheart.object.State;
@@ -40,13 +36,10 @@ public final class StateFall extends State
 {
     private static final double SPEED = 5.0 / 3.0;
 
-    private final AtomicBoolean collideY = new AtomicBoolean();
-    private final AtomicBoolean steep = new AtomicBoolean();
-    private final AtomicBoolean steepLeft = new AtomicBoolean();
-    private final AtomicBoolean steepRight = new AtomicBoolean();
-
-    private final TileCollidableListener listenerTileCollidable;
-    private final CollidableListener listenerCollidable;
+    private boolean collideY;
+    private boolean steep;
+    private boolean steepLeft;
+    private boolean steepRight;
 
     /**
      * Create the state.
@@ -58,39 +51,39 @@ public final class StateFall extends State
     {
         super(model, animation);
 
-        listenerTileCollidable = (result, category) ->
+        setListenerTileCollidable((result, category) ->
         {
             if (Axis.Y == category.getAxis())
             {
                 tileCollidable.apply(result);
                 jump.setDirection(DirectionNone.INSTANCE);
                 body.resetGravity();
-                collideY.set(true);
+                collideY = true;
                 if (result.startWith(Constant.COLL_PREFIX_STEEP_LEFT))
                 {
-                    steep.set(true);
-                    steepLeft.set(true);
+                    steep = true;
+                    steepLeft = true;
                 }
                 else if (result.startWith(Constant.COLL_PREFIX_STEEP_RIGHT))
                 {
-                    steep.set(true);
-                    steepRight.set(true);
+                    steep = true;
+                    steepRight = true;
                 }
             }
-        };
-        listenerCollidable = (collidable, with, by) ->
+        });
+        setListenerCollidable((collidable, with, by) ->
         {
             if (collidable.hasFeature(Glue.class) && with.getName().startsWith(Constant.ANIM_PREFIX_LEG))
             {
-                collideY.set(true);
+                collideY = true;
             }
-        };
+        });
 
-        addTransition(StateLand.class, () -> !steep.get() && collideY.get() && !model.hasFeature(Patrol.class));
-        addTransition(StatePatrol.class, () -> collideY.get() && model.hasFeature(Patrol.class));
-        addTransition(StateSlide.class, steep::get);
-        addTransition(StateAttackJump.class, () -> !collideY.get() && control.isFireButtonOnce() && !isGoingDown());
-        addTransition(StateAttackFall.class, () -> !collideY.get() && control.isFireButton() && isGoingDown());
+        addTransition(StateLand.class, () -> !steep && collideY && !model.hasFeature(Patrol.class));
+        addTransition(StatePatrol.class, () -> collideY && model.hasFeature(Patrol.class));
+        addTransition(StateSlide.class, () -> steep);
+        addTransition(StateAttackJump.class, () -> !collideY && control.isFireButtonOnce() && !isGoingDown());
+        addTransition(StateAttackFall.class, () -> !collideY && control.isFireButton() && isGoingDown());
     }
 
     @Override
@@ -98,27 +91,22 @@ public final class StateFall extends State
     {
         super.enter();
 
-        tileCollidable.addListener(listenerTileCollidable);
-        collidable.addListener(listenerCollidable);
-        collideY.set(false);
-        steep.set(false);
-        steepLeft.set(false);
-        steepRight.set(false);
+        collideY = false;
+        steep = false;
+        steepLeft = false;
+        steepRight = false;
     }
 
     @Override
     public void exit()
     {
-        tileCollidable.removeListener(listenerTileCollidable);
-        collidable.removeListener(listenerCollidable);
-
-        if (mirrorable.is(Mirror.NONE) && steepLeft.get())
+        if (mirrorable.is(Mirror.NONE) && steepLeft)
         {
             mirrorable.mirror(Mirror.HORIZONTAL);
             movement.setDirection(DirectionNone.INSTANCE);
             movement.setDestination(0.0, 0.0);
         }
-        else if (mirrorable.is(Mirror.HORIZONTAL) && steepRight.get())
+        else if (mirrorable.is(Mirror.HORIZONTAL) && steepRight)
         {
             mirrorable.mirror(Mirror.NONE);
             movement.setDirection(DirectionNone.INSTANCE);
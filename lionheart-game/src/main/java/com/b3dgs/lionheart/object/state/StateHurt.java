@@ -18,6 +18,7 @@
 package com.b3dgs.lionheart.object.state;
 
 import com.b3dgs.lionengine.Animation;
+import com.b3dgs.lionengine.game.Direction;
 import com.b3dgs.lionengine.game.Force;
 import com.b3dgs.lionengine.game.feature.body.Body;
 import com.b3dgs.lionheart.Constant;
@@ -31,6 +32,7 @@ import com.b3dgs.lionheart.object.feature.Hurtable;
 public final class StateHurt extends State
 {
     private static final double SPEED = 5.0 / 3.0;
+    private static final Direction JUMP_DIRECTION_MAX = new Force(0.0, Constant.JUMP_MAX);
 
     private final Body body;
 
@@ -60,7 +62,7 @@ public final class StateHurt extends State
     @Override
     public void exit()
     {
-        jump.setDirectionMaximum(new Force(0.0, Constant.JUMP_MAX));
+        jump.setDirectionMaximum(JUMP_DIRECTION_MAX);
     }
 
     @Override
@@ -17,15 +17,11 @@
  */
 package com.b3dgs.lionheart.object.state;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-
 import com.b3dgs.lionengine.Animation;
 import com.b3dgs.lionengine.Mirror;
 import com.b3dgs.lionengine.UtilMath;
 import com.b3dgs.lionengine.game.DirectionNone;
-import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.Axis;
-import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.object.BorderDetection;
 import com.b3dgs.lionheart.object.EntityModel;
@@ -41,12 +37,9 @@ public final class StateIdle extends State
     private static final double SPEED = 5.0 / 3.0;
     private static final double WALK_MIN_SPEED = 0.75;
 
-    private final AtomicBoolean collideX = new AtomicBoolean();
-    private final AtomicBoolean collideY = new AtomicBoolean();
     private final BorderDetection border = new BorderDetection(model.getMap());
-
-    private final TileCollidableListener listenerTileCollidable;
-    private final CollidableListener listenerCollidable;
+    private boolean collideX;
+    private boolean collideY;
 
     /**
      * Create the state.
@@ -58,7 +51,7 @@ public final class StateIdle extends State
     {
         super(model, animation);
 
-        listenerTileCollidable = (result, category) ->
+        setListenerTileCollidable((result, category) ->
         {
             border.notifyTileCollided(result, category);
 
@@ -70,32 +63,32 @@ public final class StateIdle extends State
                     tileCollidable.apply(result);
                     movement.setDirection(DirectionNone.INSTANCE);
                 }
-                collideX.set(true);
+                collideX = true;
             }
             if (Axis.Y == category.getAxis())
             {
                 tileCollidable.apply(result);
                 body.resetGravity();
-                collideY.set(true);
+                collideY = true;
             }
-        };
-        listenerCollidable = (collidable, with, by) ->
+        });
+        setListenerCollidable((collidable, with, by) ->
         {
             if (collidable.hasFeature(Glue.class) && with.getName().startsWith(Constant.ANIM_PREFIX_LEG))
             {
-                collideY.set(true);
+                collideY = true;
             }
-        };
+        });
         collidable.addListener(border);
 
-        addTransition(StateBorder.class, () -> collideY.get() && !isGoingHorizontal() && border.is());
-        addTransition(StateWalk.class, () -> !collideX.get() && isWalkingFastEnough());
+        addTransition(StateBorder.class, () -> collideY && !isGoingHorizontal() && border.is());
+        addTransition(StateWalk.class, () -> !collideX && isWalkingFastEnough());
         addTransition(StateCrouch.class, this::isGoingDown);
         addTransition(StateJump.class, this::isGoingUp);
         addTransition(StateAttackPrepare.class, control::isFireButton);
         addTransition(StateFall.class,
                       () -> model.hasGravity()
-                            && !collideY.get()
+                            && !collideY
                             && Double.compare(transformable.getY(), transformable.getOldY()) != 0);
     }
 
@@ -111,19 +104,14 @@ public final class StateIdle extends State
         super.enter();
 
         movement.setVelocity(0.16);
-        tileCollidable.addListener(listenerTileCollidable);
-        collidable.addListener(listenerCollidable);
         border.reset();
-        collideX.set(false);
-        collideY.set(false);
+        collideX = false;
+        collideY = false;
     }
 
     @Override
     public void exit()
     {
-        tileCollidable.removeListener(listenerTileCollidable);
-        collidable.removeListener(listenerCollidable);
-
         if (border.isLeft())
         {
             mirrorable.mirror(Mirror.HORIZONTAL);
@@ -144,8 +132,8 @@ public final class StateIdle extends State
     @Override
     protected void postUpdate()
     {
-        collideX.set(false);
-        collideY.set(false);
+        collideX = false;
+        collideY = false;
         border.reset();
     }
 }
@@ -17,17 +17,15 @@
  */
 package com.b3dgs.lionheart.object.state;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-
 import com.b3dgs.lionengine.Animation;
 import com.b3dgs.lionengine.Mirror;
 import com.b3dgs.lionengine.Updatable;
 import com.b3dgs.lionengine.UpdatableVoid;
 import com.b3dgs.lionengine.UtilMath;
+import com.b3dgs.lionengine.game.Direction;
 import com.b3dgs.lionengine.game.DirectionNone;
 import com.b3dgs.lionengine.game.Force;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.Axis;
-import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.object.EntityModel;
 import com.b3dgs.lionheart.object.State;
@@ -40,15 +38,15 @@ import com.b3dgs.lionheart.object.state.attack.StateAttackJump;
 public final class StateJump extends State
 {
     private static final double SPEED = 5.0 / 3.0;
+    private static final Direction JUMP_DIRECTION_MAX = new Force(0.0, Constant.JUMP_MAX);
 
-    private final AtomicBoolean collideX = new AtomicBoolean();
-    private final AtomicBoolean steep = new AtomicBoolean();
-    private final AtomicBoolean steepLeft = new AtomicBoolean();
-    private final AtomicBoolean steepRight = new AtomicBoolean();
-
-    private final TileCollidableListener listenerTileCollidable;
+    private final Force jumpStopped = new Force();
     private final Updatable checkJumpStopped;
     private Updatable check;
+    private boolean collideX;
+    private boolean steep;
+    private boolean steepLeft;
+    private boolean steepRight;
 
     /**
      * Create the state.
@@ -60,7 +58,7 @@ public final class StateJump extends State
     {
         super(model, animation);
 
-        listenerTileCollidable = (result, category) ->
+        setListenerTileCollidable((result, category) ->
         {
             if (Axis.Y == category.getAxis() && result.startWith(Constant.COLL_PREFIX_STEEP))
             {
@@ -68,18 +66,18 @@ public final class StateJump extends State
                 body.resetGravity();
                 if (result.startWith(Constant.COLL_PREFIX_STEEP_LEFT))
                 {
-                    steep.set(true);
-                    steepLeft.set(true);
+                    steep = true;
+                    steepLeft = true;
                 }
                 else if (result.startWith(Constant.COLL_PREFIX_STEEP_RIGHT))
                 {
-                    steep.set(true);
-                    steepRight.set(true);
+                    steep = true;
+                    steepRight = true;
                 }
             }
-        };
+        });
 
-        addTransition(StateSlide.class, steep::get);
+        addTransition(StateSlide.class, () -> steep);
         addTransition(StateFall.class,
                       () -> Double.compare(jump.getDirectionVertical(), 0.0) <= 0
                             || transformable.getY() < transformable.getOldY());
@@ -91,10 +89,11 @@ public final class StateJump extends State
             if (!control.isFireButton() && Double.compare(control.getVerticalDirection(), 0.0) <= 0)
             {
                 check = UpdatableVoid.getInstance();
-                jump.setDirectionMaximum(new Force(0.0,
-                                                   UtilMath.clamp(Constant.JUMP_MAX - jump.getDirectionVertical(),
-                                                                  Constant.JUMP_MIN,
-                                                                  Constant.JUMP_MAX)));
+                jumpStopped.setDirection(0.0,
+                                         UtilMath.clamp(Constant.JUMP_MAX - jump.getDirectionVertical(),
+                                                        Constant.JUMP_MIN,
+                                                        Constant.JUMP_MAX));
+                jump.setDirectionMaximum(jumpStopped);
             }
         };
     }
@@ -104,33 +103,29 @@ public final class StateJump extends State
     {
         super.enter();
 
-        tileCollidable.addListener(listenerTileCollidable);
-
         check = checkJumpStopped;
 
         jump.setDirection(0.0, Constant.JUMP_MAX);
-        jump.setDirectionMaximum(new Force(0.0, Constant.JUMP_MAX));
+        jump.setDirectionMaximum(JUMP_DIRECTION_MAX);
 
-        collideX.set(false);
-        steep.set(false);
-        steepLeft.set(false);
-        steepRight.set(false);
+        collideX = false;
+        steep = false;
+        steepLeft = false;
+        steepRight = false;
     }
 
     @Override
     public void exit()
     {
-        tileCollidable.removeListener(listenerTileCollidable);
-
-        jump.setDirectionMaximum(new Force(0.0, Constant.JUMP_MAX));
+        jump.setDirectionMaximum(JUMP_DIRECTION_MAX);
 
-        if (mirrorable.is(Mirror.NONE) && steepLeft.get())
+        if (mirrorable.is(Mirror.NONE) && steepLeft)
         {
             mirrorable.mirror(Mirror.HORIZONTAL);
             movement.setDirection(DirectionNone.INSTANCE);
             movement.setDestination(0.0, 0.0);
         }
-        else if (mirrorable.is(Mirror.HORIZONTAL) && steepRight.get())
+        else if (mirrorable.is(Mirror.HORIZONTAL) && steepRight)
         {
             mirrorable.mirror(Mirror.NONE);
             movement.setDirection(DirectionNone.INSTANCE);
@@ -143,7 +138,7 @@ public final class StateJump extends State
     {
         check.update(extrp);
         body.resetGravity();
-        if (!collideX.get())
+        if (!collideX)
         {
             movement.setDestination(control.getHorizontalDirection() * SPEED, 0.0);
         }
@@ -17,13 +17,9 @@
  */
 package com.b3dgs.lionheart.object.state;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-
 import com.b3dgs.lionengine.Animation;
 import com.b3dgs.lionengine.Tick;
-import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.Axis;
-import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.object.EntityModel;
 import com.b3dgs.lionheart.object.State;
@@ -38,11 +34,8 @@ public final class StateLand extends State
     private static final double SPEED = 5.0 / 3.0;
     private static final long LAND_TICK = 10L;
 
-    private final AtomicBoolean collideY = new AtomicBoolean();
     private final Tick landed = new Tick();
-
-    private final TileCollidableListener listenerTileCollidable;
-    private final CollidableListener listenerCollidable;
+    private boolean collideY;
 
     /**
      * Create the state.
@@ -54,7 +47,7 @@ public final class StateLand extends State
     {
         super(model, animation);
 
-        listenerTileCollidable = (result, category) ->
+        setListenerTileCollidable((result, category) ->
         {
             if (Axis.X == category.getAxis())
             {
@@ -63,23 +56,23 @@ public final class StateLand extends State
             if (Axis.Y == category.getAxis())
             {
                 tileCollidable.apply(result);
-                collideY.set(true);
+                collideY = true;
             }
-        };
-        listenerCollidable = (collidable, with, by) ->
+        });
+        setListenerCollidable((collidable, with, by) ->
         {
             if (collidable.hasFeature(Glue.class) && with.getName().startsWith(Constant.ANIM_PREFIX_LEG))
             {
-                collideY.set(true);
+                collideY = true;
             }
-        };
+        });
 
         addTransition(StateIdle.class, () -> !isGoingDown() && landed.elapsed(LAND_TICK));
         addTransition(StateJump.class, this::isGoingUpOnce);
         addTransition(StateCrouch.class, this::isGoingDown);
         addTransition(StateAttackPrepare.class, control::isFireButton);
         addTransition(StateFall.class,
-                      () -> !collideY.get() && Double.compare(movement.getDirectionHorizontal(), 0.0) != 0);
+                      () -> !collideY && Double.compare(movement.getDirectionHorizontal(), 0.0) != 0);
     }
 
     @Override
@@ -87,18 +80,9 @@ public final class StateLand extends State
     {
         super.enter();
 
-        tileCollidable.addListener(listenerTileCollidable);
-        collidable.addListener(listenerCollidable);
         landed.restart();
     }
 
-    @Override
-    public void exit()
-    {
-        tileCollidable.removeListener(listenerTileCollidable);
-        collidable.removeListener(listenerCollidable);
-    }
-
     @Override
     public void update(double extrp)
     {
@@ -17,12 +17,8 @@
  */
 package com.b3dgs.lionheart.object.state;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-
 import com.b3dgs.lionengine.Animation;
-import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.Axis;
-import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.object.EntityModel;
 import com.b3dgs.lionheart.object.State;
@@ -36,10 +32,7 @@ public final class StatePatrol extends State
     private static final double SPEED = 5.0 / 3.0;
     private static final double ANIM_SPEED_DIVISOR = 3.0;
 
-    private final AtomicBoolean collideY = new AtomicBoolean();
-
-    private final TileCollidableListener listenerTileCollidable;
-    private final CollidableListener listenerCollidable;
+    private boolean collideY;
 
     /**
      * Create the state.
@@ -51,42 +44,26 @@ public final class StatePatrol extends State
     {
         super(model, animation);
 
-        listenerTileCollidable = (result, category) ->
+        setListenerTileCollidable((result, category) ->
         {
             if (Axis.Y == category.getAxis())
             {
                 tileCollidable.apply(result);
-                collideY.set(true);
+                collideY = true;
             }
-        };
-        listenerCollidable = (collidable, with, by) ->
+        });
+        setListenerCollidable((collidable, with, by) ->
         {
             if (collidable.hasFeature(Glue.class) && with.getName().startsWith(Constant.ANIM_PREFIX_LEG))
             {
-                collideY.set(true);
+                collideY = true;
             }
-        };
+        });
 
         addTransition(StateFall.class,
                       () -> model.hasGravity()
                             && Double.compare(movement.getDirectionHorizontal(), 0.0) != 0
-                            && !collideY.get());
-    }
-
-    @Override
-    public void enter()
-    {
-        super.enter();
-
-        tileCollidable.addListener(listenerTileCollidable);
-        collidable.addListener(listenerCollidable);
-    }
-
-    @Override
-    public void exit()
-    {
-        tileCollidable.removeListener(listenerTileCollidable);
-        collidable.removeListener(listenerCollidable);
+                            && !collideY);
     }
 
     @Override
@@ -100,6 +77,6 @@ public final class StatePatrol extends State
     @Override
     protected void postUpdate()
     {
-        collideY.set(false);
+        collideY = false;
     }
 }
@@ -17,13 +17,10 @@
  */
 package com.b3dgs.lionheart.object.state;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-
 import com.b3dgs.lionengine.Animation;
 import com.b3dgs.lionengine.game.Direction;
 import com.b3dgs.lionengine.game.Force;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.Axis;
-import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.object.EntityModel;
 import com.b3dgs.lionheart.object.State;
@@ -36,9 +33,7 @@ public class StateSlideBase extends State
     private static final double SPEED_JUMP_X = 3.5;
     private static final Direction SPEED_JUMP_Y = new Force(0.0, 2.5);
 
-    private final AtomicBoolean steep = new AtomicBoolean();
-
-    private final TileCollidableListener listenerTileCollidable;
+    private boolean steep;
 
     private double speed = 0.5;
 
@@ -52,7 +47,7 @@ public class StateSlideBase extends State
     {
         super(model, animation);
 
-        listenerTileCollidable = (result, category) ->
+        setListenerTileCollidable((result, category) ->
         {
             if (Axis.Y == category.getAxis())
             {
@@ -60,11 +55,11 @@ public class StateSlideBase extends State
             }
             if (result.startWith(Constant.COLL_PREFIX_STEEP))
             {
-                steep.set(true);
+                steep = true;
             }
-        };
+        });
 
-        addTransition(StateLand.class, () -> !steep.get());
+        addTransition(StateLand.class, () -> !steep);
         addTransition(StateJump.class, this::isGoingUp);
     }
 
@@ -83,14 +78,12 @@ public class StateSlideBase extends State
     {
         super.enter();
 
-        tileCollidable.addListener(listenerTileCollidable);
-        steep.set(false);
+        steep = false;
     }
 
     @Override
     public void exit()
     {
-        tileCollidable.removeListener(listenerTileCollidable);
         if (isGoingUp())
         {
             movement.setDestination(0.0, 0.0);
@@ -108,6 +101,6 @@ public class StateSlideBase extends State
     @Override
     protected void postUpdate()
     {
-        steep.set(false);
+        steep = false;
     }
 }
@@ -17,15 +17,11 @@
  */
 package com.b3dgs.lionheart.object.state;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-
 import com.b3dgs.lionengine.AnimState;
 import com.b3dgs.lionengine.Animation;
 import com.b3dgs.lionengine.game.DirectionNone;
-import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.state.StateLast;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.Axis;
-import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.object.EntityModel;
 import com.b3dgs.lionheart.object.State;
@@ -37,10 +33,7 @@ import com.b3dgs.lionheart.object.feature.Patrol;
  */
 public final class StateTurn extends State
 {
-    private final AtomicBoolean collideY = new AtomicBoolean();
-
-    private final TileCollidableListener listenerTileCollidable;
-    private final CollidableListener listenerCollidable;
+    private boolean collideY;
 
     /**
      * Create the state.
@@ -52,21 +45,21 @@ public final class StateTurn extends State
     {
         super(model, animation);
 
-        listenerTileCollidable = (result, category) ->
+        setListenerTileCollidable((result, category) ->
         {
             if (Axis.Y == category.getAxis())
             {
                 tileCollidable.apply(result);
-                collideY.set(true);
+                collideY = true;
             }
-        };
-        listenerCollidable = (collidable, with, by) ->
+        });
+        setListenerCollidable((collidable, with, by) ->
         {
             if (collidable.hasFeature(Glue.class) && with.getName().startsWith(Constant.ANIM_PREFIX_LEG))
             {
-                collideY.set(true);
+                collideY = true;
             }
-        };
+        });
 
         addTransition(StateLast.class, () -> is(AnimState.FINISHED));
     }
@@ -78,17 +71,11 @@ public final class StateTurn extends State
 
         movement.setDestination(0.0, 0.0);
         movement.setDirection(DirectionNone.INSTANCE);
-
-        tileCollidable.addListener(listenerTileCollidable);
-        collidable.addListener(listenerCollidable);
     }
 
     @Override
     public void exit()
     {
-        tileCollidable.removeListener(listenerTileCollidable);
-        collidable.removeListener(listenerCollidable);
-
         if (model.hasFeature(Patrol.class))
         {
             model.getFeature(Patrol.class).applyMirror();
@@ -98,6 +85,6 @@ public final class StateTurn extends State
     @Override
     protected void postUpdate()
     {
-        collideY.set(false);
+        collideY = false;
     }
 }
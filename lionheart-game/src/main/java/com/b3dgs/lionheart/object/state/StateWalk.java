@@ -17,14 +17,10 @@
  */
 package com.b3dgs.lionheart.object.state;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-
 import com.b3dgs.lionengine.Animation;
 import com.b3dgs.lionengine.UtilMath;
 import com.b3dgs.lionengine.game.DirectionNone;
-import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.Axis;
-import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.object.EntityModel;
 import com.b3dgs.lionheart.object.State;
@@ -40,13 +36,10 @@ final class StateWalk extends State
     private static final double ANIM_SPEED_DIVISOR = 6.0;
     private static final double WALK_MIN_SPEED = 0.005;
 
-    private final AtomicBoolean collideX = new AtomicBoolean();
-    private final AtomicBoolean collideY = new AtomicBoolean();
-    private final AtomicBoolean slopeRising = new AtomicBoolean();
-    private final AtomicBoolean slopeDescending = new AtomicBoolean();
-
-    private final TileCollidableListener listenerTileCollidable;
-    private final CollidableListener listenerCollidable;
+    private boolean collideX;
+    private boolean collideY;
+    private boolean slopeRising;
+    private boolean slopeDescending;
 
     private double speedSlope = 0.0;
 
@@ -60,7 +53,7 @@ final class StateWalk extends State
     {
         super(model, animation);
 
-        listenerTileCollidable = (result, category) ->
+        setListenerTileCollidable((result, category) ->
         {
             if (Axis.X == category.getAxis())
             {
@@ -70,22 +63,22 @@ final class StateWalk extends State
                     tileCollidable.apply(result);
                     movement.setDirection(DirectionNone.INSTANCE);
                 }
-                collideX.set(true);
+                collideX = true;
             }
             if (Axis.Y == category.getAxis())
             {
                 tileCollidable.apply(result);
-                collideY.set(true);
+                collideY = true;
                 if (isGoingRight() && result.startWith(Constant.COLL_PREFIX_SLOPE_LEFT)
                     || isGoingLeft() && result.startWith(Constant.COLL_PREFIX_SLOPE_RIGHT))
                 {
-                    slopeRising.set(true);
+                    slopeRising = true;
                     speedSlope = -0.3;
                 }
                 else if (isGoingRight() && result.startWith(Constant.COLL_PREFIX_SLOPE_RIGHT)
                          || isGoingLeft() && result.startWith(Constant.COLL_PREFIX_SLOPE_LEFT))
                 {
-                    slopeDescending.set(true);
+                    slopeDescending = true;
                     speedSlope = 0.3;
                 }
                 else
@@ -93,23 +86,23 @@ final class StateWalk extends State
                     speedSlope = 0.0;
                 }
             }
-        };
-        listenerCollidable = (collidable, with, by) ->
+        });
+        setListenerCollidable((collidable, with, by) ->
         {
             if (collidable.hasFeature(Glue.class) && with.getName().startsWith(Constant.ANIM_PREFIX_LEG))
             {
-                collideY.set(true);
+                collideY = true;
             }
-        };
+        });
 
-        addTransition(StateIdle.class, () -> collideX.get() || isWalkingSlowEnough());
+        addTransition(StateIdle.class, () -> collideX || isWalkingSlowEnough());
         addTransition(StateCrouch.class, this::isGoingDown);
         addTransition(StateJump.class, this::isGoingUp);
         addTransition(StateAttackPrepare.class, control::isFireButton);
         addTransition(StateFall.class,
                       () -> model.hasGravity()
                             && Double.compare(movement.getDirectionHorizontal(), 0.0) != 0
-                            && !collideY.get());
+                            && !collideY);
     }
 
     private boolean isWalkingSlowEnough()
@@ -123,21 +116,11 @@ final class StateWalk extends State
     {
         super.enter();
 
-        tileCollidable.addListener(listenerTileCollidable);
-        collidable.addListener(listenerCollidable);
-
-        collideX.set(false);
-        collideY.set(false);
+        collideX = false;
+        collideY = false;
         speedSlope = 0.0;
     }
 
-    @Override
-    public void exit()
-    {
-        tileCollidable.removeListener(listenerTileCollidable);
-        collidable.removeListener(listenerCollidable);
-    }
-
     @Override
     public void update(double extrp)
     {
@@ -161,9 +144,9 @@ final class StateWalk extends State
             movement.setVelocity(0.12);
         }
 
-        collideX.set(false);
-        collideY.set(false);
-        slopeRising.set(false);
-        slopeDescending.set(false);
+        collideX = false;
+        collideY = false;
+        slopeRising = false;
+        slopeDescending = false;
     }
 }
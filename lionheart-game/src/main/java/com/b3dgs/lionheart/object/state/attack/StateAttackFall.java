@@ -17,14 +17,11 @@
  */
 package com.b3dgs.lionheart.object.state.attack;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-
 import com.b3dgs.lionengine.Animation;
+import com.b3dgs.lionengine.game.Direction;
 import com.b3dgs.lionengine.game.DirectionNone;
 import com.b3dgs.lionengine.game.Force;
-import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.Axis;
-import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.object.EntityModel;
 import com.b3dgs.lionheart.object.State;
@@ -41,12 +38,10 @@ import com.b3dgs.lionheart.object.state.StateLand;
 public final class StateAttackFall extends State
 {
     private static final double SPEED = 5.0 / 3.0;
+    private static final Direction HIT_DIRECTION_MAX = new Force(0.0, Constant.JUMP_HIT);
 
-    private final AtomicBoolean collideY = new AtomicBoolean();
-    private final AtomicBoolean collideSword = new AtomicBoolean();
-
-    private final TileCollidableListener listener;
-    private final CollidableListener listenerCollidable;
+    private boolean collideY;
+    private boolean collideSword;
 
     /**
      * Create the state.
@@ -58,37 +53,37 @@ public final class StateAttackFall extends State
     {
         super(model, animation);
 
-        listener = (result, category) ->
+        setListenerTileCollidable((result, category) ->
         {
             if (Axis.Y == category.getAxis())
             {
                 tileCollidable.apply(result);
                 jump.setDirection(DirectionNone.INSTANCE);
                 body.resetGravity();
-                collideY.set(true);
+                collideY = true;
             }
-        };
+        });
 
-        listenerCollidable = (collidable, with, by) ->
+        setListenerCollidable((collidable, with, by) ->
         {
             if (collidable.hasFeature(Glue.class) && with.getName().startsWith(Constant.ANIM_PREFIX_LEG))
             {
-                collideY.set(true);
+                collideY = true;
             }
             if (collidable.hasFeature(Hurtable.class)
                 && with.getName().startsWith(Constant.ANIM_PREFIX_ATTACK + "fall"))
             {
                 body.resetGravity();
-                jump.setDirection(new Force(0, Constant.JUMP_HIT));
-                jump.setDirectionMaximum(new Force(0, Constant.JUMP_HIT));
-                collideSword.set(true);
+                jump.setDirection(0.0, Constant.JUMP_HIT);
+                jump.setDirectionMaximum(HIT_DIRECTION_MAX);
+                collideSword = true;
             }
-        };
+        });
 
-        addTransition(StateLand.class, () -> !isGoingDown() && collideY.get());
-        addTransition(StateCrouch.class, () -> isGoingDown() && collideY.get());
+        addTransition(StateLand.class, () -> !isGoingDown() && collideY);
+        addTransition(StateCrouch.class, () -> isGoingDown() && collideY);
         addTransition(StateJump.class,
-                      () -> collideSword.get() && Double.compare(jump.getDirectionVertical(), 0.0) > 0);
+                      () -> collideSword && Double.compare(jump.getDirectionVertical(), 0.0) > 0);
         addTransition(StateFall.class,
                       () -> !control.isFireButton() && Double.compare(jump.getDirectionVertical(), 0.0) <= 0);
     }
@@ -98,17 +93,8 @@ public final class StateAttackFall extends State
     {
         super.enter();
 
-        tileCollidable.addListener(listener);
-        collidable.addListener(listenerCollidable);
-        collideY.set(false);
-        collideSword.set(false);
-    }
-
-    @Override
-    public void exit()
-    {
-        tileCollidable.removeListener(listener);
-        collidable.removeListener(listenerCollidable);
+        collideY = false;
+        collideSword = false;
     }
 
     @Override
@@ -17,17 +17,14 @@
  */
 package com.b3dgs.lionheart.object.state.attack;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-
 import com.b3dgs.lionengine.AnimState;
 import com.b3dgs.lionengine.Animation;
 import com.b3dgs.lionengine.Updatable;
 import com.b3dgs.lionengine.UtilMath;
+import com.b3dgs.lionengine.game.Direction;
 import com.b3dgs.lionengine.game.DirectionNone;
 import com.b3dgs.lionengine.game.Force;
-import com.b3dgs.lionengine.game.feature.collidable.CollidableListener;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.Axis;
-import com.b3dgs.lionengine.game.feature.tile.map.collision.TileCollidableListener;
 import com.b3dgs.lionheart.Constant;
 import com.b3dgs.lionheart.object.EntityModel;
 import com.b3dgs.lionheart.object.State;
@@ -43,16 +40,16 @@ public final class StateAttackJump extends State
     private static final double SPEED = 5.0 / 3.0;
     private static final double JUMP_MIN = 2.5;
     private static final double JUMP_MAX = 5.4;
+    private static final Direction JUMP_DIRECTION_MAX = new Force(0.0, JUMP_MAX);
 
-    private final AtomicBoolean collideY = new AtomicBoolean();
-    private final TileCollidableListener listener;
-    private final CollidableListener listenerCollidable;
+    private final Force jumpStopped = new Force();
     private final Updatable checkJumpStopped;
     private final Updatable checkNone = extrp ->
     {
         // Nothing to do
     };
     private Updatable check;
+    private boolean collideY;
 
     /**
      * Create the state.
@@ -64,39 +61,38 @@ public final class StateAttackJump extends State
     {
         super(model, animation);
 
-        listener = (result, category) ->
+        setListenerTileCollidable((result, category) ->
         {
             if (Axis.Y == category.getAxis())
             {
                 tileCollidable.apply(result);
                 jump.setDirection(DirectionNone.INSTANCE);
                 body.resetGravity();
-                collideY.set(true);
+                collideY = true;
             }
-        };
-        listenerCollidable = (collidable, with, by) ->
+        });
+        setListenerCollidable((collidable, with, by) ->
         {
             if (transformable.getY() < transformable.getOldY()
                 && collidable.hasFeature(Glue.class)
                 && with.getName().startsWith(Constant.ANIM_PREFIX_LEG))
             {
-                collideY.set(true);
+                collideY = true;
             }
-        };
+        });
 
         checkJumpStopped = extrp ->
         {
             if (Double.compare(control.getVerticalDirection(), 0.0) <= 0)
             {
                 check = checkNone;
-                jump.setDirectionMaximum(new Force(0.0,
-                                                   UtilMath.clamp(JUMP_MAX - jump.getDirectionVertical(),
-                                                                  JUMP_MIN,
-                                                                  JUMP_MAX)));
+                jumpStopped.setDirection(0.0,
+                                         UtilMath.clamp(JUMP_MAX - jump.getDirectionVertical(), JUMP_MIN, JUMP_MAX));
+                jump.setDirectionMaximum(jumpStopped);
             }
         };
 
-        addTransition(StateLand.class, () -> collideY.get());
+        addTransition(StateLand.class, () -> collideY);
         addTransition(StateFall.class, () -> is(AnimState.FINISHED));
     }
 
@@ -107,17 +103,13 @@ public final class StateAttackJump extends State
 
         check = checkJumpStopped;
 
-        tileCollidable.addListener(listener);
-        collidable.addListener(listenerCollidable);
-        collideY.set(false);
+        collideY = false;
     }
 
     @Override
     public void exit()
     {
-        tileCollidable.removeListener(listener);
-        collidable.removeListener(listenerCollidable);
-        jump.setDirectionMaximum(new Force(0.0, JUMP_MAX));
+        jump.setDirectionMaximum(JUMP_DIRECTION_MAX);
     }
 
     @Override
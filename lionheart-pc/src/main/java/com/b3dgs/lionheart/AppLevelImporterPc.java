@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.b3dgs.lionengine.Engine;
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.Verbose;
+import com.b3dgs.lionengine.awt.graphic.EngineAwt;
+
+/**
+ * Import all level rips to level data files, in parallel. Used to prebuild levels instead of importing them on first
+ * launch.
+ */
+public final class AppLevelImporterPc
+{
+    /** Usage message. */
+    private static final String USAGE = "Usage: <resources directory> [threads]";
+    /** Rip file prefix. */
+    private static final String RIP_PREFIX = "level";
+
+    /**
+     * Main function.
+     * 
+     * @param args The arguments (resources directory, optional number of threads).
+     */
+    public static void main(String[] args) // CHECKSTYLE IGNORE LINE: TrailingComment|UncommentedMain
+    {
+        if (args.length < 1)
+        {
+            Verbose.info(USAGE);
+            return;
+        }
+        final int parallelism;
+        if (args.length > 1)
+        {
+            parallelism = Integer.parseInt(args[1]);
+        }
+        else
+        {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+
+        EngineAwt.start(Constant.PROGRAM_NAME, Constant.PROGRAM_VERSION, args[0]);
+        try
+        {
+            final List<Media> rips = LevelImporter.getRips();
+            rips.addAll(getRips(new File(args[0], Constant.FOLDER_LEVELS)));
+
+            final int imported = LevelImporter.importLevels(rips, parallelism);
+            Verbose.info("Imported levels: ", String.valueOf(imported));
+        }
+        finally
+        {
+            Engine.terminate();
+        }
+    }
+
+    /**
+     * Get all rips found in each levels sub folder.
+     * 
+     * @param levels The levels folder.
+     * @return The found rips.
+     */
+    private static List<Media> getRips(File levels)
+    {
+        final List<Media> rips = new ArrayList<>();
+        final File[] worlds = levels.listFiles(File::isDirectory);
+        if (worlds != null)
+        {
+            for (final File world : worlds)
+            {
+                final File[] files = world.listFiles((dir, name) -> name.startsWith(RIP_PREFIX)
+                                                                    && name.endsWith(LevelImporter.EXTENSION_RIP));
+                if (files != null)
+                {
+                    for (final File file : files)
+                    {
+                        rips.add(Medias.create(Constant.FOLDER_LEVELS, world.getName(), file.getName()));
+                    }
+                }
+            }
+        }
+        return rips;
+    }
+
+    /**
+     * Private constructor.
+     */
+    private AppLevelImporterPc()
+    {
+        throw new LionEngineException(LionEngineException.ERROR_PRIVATE_CONSTRUCTOR);
+    }
+}
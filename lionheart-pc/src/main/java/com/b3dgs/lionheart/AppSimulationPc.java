@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2013-2018 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.b3dgs.lionheart;
+
+import java.util.concurrent.TimeUnit;
+
+import com.b3dgs.lionengine.Engine;
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.Verbose;
+import com.b3dgs.lionengine.awt.graphic.EngineAwt;
+
+/**
+ * Run headless simulation of a level, and report the simulated frames rate.
+ */
+public final class AppSimulationPc
+{
+    /** Default number of frames. */
+    private static final long DEFAULT_FRAMES = 100_000L;
+
+    /**
+     * Main function.
+     * 
+     * @param args The arguments (optional level name, optional number of frames).
+     */
+    public static void main(String[] args) // CHECKSTYLE IGNORE LINE: TrailingComment|UncommentedMain
+    {
+        System.setProperty("java.awt.headless", Boolean.TRUE.toString());
+
+        final Level level;
+        if (args.length > 0)
+        {
+            level = Level.valueOf(args[0]);
+        }
+        else
+        {
+            level = Level.SWAMP_DEMO;
+        }
+        final long frames;
+        if (args.length > 1)
+        {
+            frames = Long.parseLong(args[1]);
+        }
+        else
+        {
+            frames = DEFAULT_FRAMES;
+        }
+
+        EngineAwt.start(Constant.PROGRAM_NAME, Constant.PROGRAM_VERSION, AppLionheartPc.class);
+        try
+        {
+            final Simulation simulation = new Simulation(level);
+            final long elapsed = simulation.run(frames);
+            final double fps = frames * (double) TimeUnit.SECONDS.toNanos(1L) / Math.max(1L, elapsed);
+            Verbose.info("Simulated frames: ", String.valueOf(frames), " at fps: ", String.valueOf(Math.round(fps)));
+        }
+        finally
+        {
+            Engine.terminate();
+        }
+    }
+
+    /**
+     * Private constructor.
+     */
+    private AppSimulationPc()
+    {
+        throw new LionEngineException(LionEngineException.ERROR_PRIVATE_CONSTRUCTOR);
+    }
+}